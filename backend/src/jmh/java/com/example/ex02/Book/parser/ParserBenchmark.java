@@ -0,0 +1,115 @@
+package com.example.ex02.Book.parser;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.dto.BookPriceDTO;
+import org.jsoup.Jsoup;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 저장된 페이지 1건당 파싱 처리량 측정 (mvn -Pjmh -DskipTests test, 문서당 할당량은 gc.alloc.rate.norm)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    private byte[] kyoboList;
+    private byte[] kyoboStore;
+    private byte[] kyoboExcel;
+    private byte[] yes24List;
+    private byte[] yes24Detail;
+    private byte[] loanXml;
+    private byte[] aladinSearch;
+    private byte[] kyoboSearch;
+    private byte[] yes24Search;
+
+    @Setup(Level.Trial)
+    public void loadFixtures() throws IOException {
+        kyoboList = fixture("kyobo-bestseller.html");
+        kyoboStore = fixture("kyobo-store-weekly.html");
+        kyoboExcel = fixture("kyobo-bestseller.xlsx");
+        yes24List = fixture("yes24-bestseller.html");
+        yes24Detail = fixture("yes24-detail.html");
+        loanXml = fixture("data4library-loan.xml");
+        aladinSearch = fixture("aladin-search.html");
+        kyoboSearch = fixture("kyobo-search.html");
+        yes24Search = fixture("yes24-search.html");
+    }
+
+    @Benchmark
+    public List<BestsellerItemDTO> kyoboProductList() throws IOException {
+        return KyoboBestsellerParser.parse(stream(kyoboList), "https://product.kyobobook.co.kr/bestseller/total");
+    }
+
+    @Benchmark
+    public List<BestsellerItemDTO> kyoboStoreList() throws IOException {
+        return KyoboBestsellerParser.parseStoreList(
+                Jsoup.parse(stream(kyoboStore), null, "https://store.kyobobook.co.kr/bestseller/total/weekly"));
+    }
+
+    @Benchmark
+    public List<BestsellerItemDTO> kyoboExcel() throws IOException {
+        return KyoboBestsellerParser.parseExcel(stream(kyoboExcel));
+    }
+
+    @Benchmark
+    public List<BestsellerItemDTO> yes24List() throws IOException {
+        return Yes24BestsellerParser.parse(stream(yes24List), "https://www.yes24.com/Product/Category/BestSeller");
+    }
+
+    @Benchmark
+    public String yes24DetailIsbn() throws IOException {
+        return Yes24BestsellerParser.parseDetailIsbn(
+                Jsoup.parse(stream(yes24Detail), null, "https://www.yes24.com/Product/Goods/1"));
+    }
+
+    @Benchmark
+    public List<BestsellerItemDTO> data4LibraryLoan() throws IOException {
+        return Data4LibraryLoanParser.parse(stream(loanXml));
+    }
+
+    @Benchmark
+    public BookPriceDTO aladinPrice() throws IOException {
+        return PriceSearchParser.parseAladin(stream(aladinSearch), "https://www.aladin.co.kr/search/wsearchresult.aspx");
+    }
+
+    @Benchmark
+    public BookPriceDTO kyoboPrice() throws IOException {
+        return PriceSearchParser.parseKyobo(stream(kyoboSearch), "https://search.kyobobook.co.kr/search");
+    }
+
+    @Benchmark
+    public BookPriceDTO yes24Price() throws IOException {
+        return PriceSearchParser.parseYes24(stream(yes24Search), "https://www.yes24.com/Product/Search");
+    }
+
+    private static InputStream stream(byte[] data) {
+        return new ByteArrayInputStream(data);
+    }
+
+    private static byte[] fixture(String name) throws IOException {
+        try (InputStream in = ParserBenchmark.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IOException("Missing fixture: " + name);
+            }
+            return in.readAllBytes();
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.ex02.Ai.service;
 
+import com.example.ex02.common.CircuitBreaker;
+import com.example.ex02.common.CircuitBreakerRegistry;
 import com.opencsv.CSVReader;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
@@ -34,6 +36,14 @@ public class BookAiService {
     private final String GROQ_URL = "https://api.groq.com/openai/v1/chat/completions";
     private final String TAVILY_URL = "https://api.tavily.com/search";
 
+    private final CircuitBreaker groqBreaker;
+    private final CircuitBreaker tavilyBreaker;
+
+    public BookAiService(CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.groqBreaker = circuitBreakerRegistry.get("groq");
+        this.tavilyBreaker = circuitBreakerRegistry.get("tavily");
+    }
+
     @PostConstruct
     public void init() {
         ClassPathResource resource = new ClassPathResource("aladin_books_data_delete_html.csv");
@@ -169,7 +179,7 @@ public class BookAiService {
         request.put("search_depth", "advanced");
 
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(TAVILY_URL, request, Map.class);
+            ResponseEntity<Map> response = tavilyBreaker.execute(() -> restTemplate.postForEntity(TAVILY_URL, request, Map.class));
             List<Map<String, Object>> results = (List<Map<String, Object>>) response.getBody().get("results");
             return results.stream().map(r -> (String) r.get("content")).collect(Collectors.joining(" "));
         } catch (Exception e) { return ""; }
@@ -224,7 +234,7 @@ public class BookAiService {
             headers.setContentType(MediaType.APPLICATION_JSON);
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
-            ResponseEntity<Map> response = restTemplate.postForEntity(GROQ_URL, entity, Map.class);
+            ResponseEntity<Map> response = groqBreaker.execute(() -> restTemplate.postForEntity(GROQ_URL, entity, Map.class));
             List<Map<String, Object>> choices = (List<Map<String, Object>>) response.getBody().get("choices");
             String aiAnswer = (String) ((Map<String, Object>) choices.get(0).get("message")).get("content");
 
@@ -8,6 +8,8 @@ import com.example.ex02.Analytics.repository.BlockedKeywordRepository;
 import com.example.ex02.Analytics.repository.BookSearchLogRepository;
 import com.example.ex02.Book.entity.BookEntity;
 import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.search.BookSpellSuggester;
+import com.example.ex02.Book.search.BookSuggestIndex;
 import com.example.ex02.User.entity.UserEntity;
 import com.example.ex02.User.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,12 +23,14 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -40,6 +44,8 @@ public class SearchTrendService {
     private final BookRepository bookRepository;
     private final UserRepository userRepository;
     private final BlockedKeywordRepository blockedKeywordRepository;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final BookSpellSuggester bookSpellSuggester;
 
     // 캐시된 트렌드 데이터
     private List<SearchTrendDTO> cachedKeywordTrends = new ArrayList<>();
@@ -205,6 +211,16 @@ public class SearchTrendService {
                 .map(row -> new SearchTrendDTO((String) row[0], (Long) row[1]))
                 .collect(Collectors.toList());
 
+        // 철자 교정 사전에 인기 검색어 반영 (차단 키워드 제외)
+        Map<String, Long> keywordCounts = new HashMap<>();
+        for (Object[] row : keywordResults) {
+            String keyword = (String) row[0];
+            if (keyword != null && !dbBlockedKeywords.contains(keyword.toLowerCase(Locale.ROOT))) {
+                keywordCounts.put(keyword, (Long) row[1]);
+            }
+        }
+        bookSpellSuggester.updateKeywords(keywordCounts);
+
         // 구매 인기 도서
         List<Object[]> purchaseResults = searchLogRepository.findTopBooksByAction(
                 ActionType.PURCHASE_VIEW, since);
@@ -233,6 +249,13 @@ public class SearchTrendService {
                 ))
                 .collect(Collectors.toList());
 
+        // 자동완성 인기도 (전체 클릭 행동 합산)
+        Map<Long, Long> popularity = new HashMap<>();
+        for (Object[] row : searchLogRepository.findTopBooks(since)) {
+            popularity.put((Long) row[0], (Long) row[4]);
+        }
+        bookSuggestIndex.updatePopularity(popularity);
+
         lastCacheUpdate = LocalDateTime.now();
         log.info("트렌드 캐시 갱신 완료: 검색어 {}개, 구매 {}개, 대출 {}개",
                 cachedKeywordTrends.size(),
@@ -1,18 +1,31 @@
 package com.example.ex02.Book.controller;
 
 import com.example.ex02.Book.dto.BookDTO;
+import com.example.ex02.Book.dto.BookImportJobDTO;
+import com.example.ex02.Book.dto.BestsellerAggregateDTO;
 import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.dto.BookPageDTO;
+import com.example.ex02.Book.dto.BookSearchResponse;
+import com.example.ex02.Book.dto.BookSuggestionDTO;
 import com.example.ex02.Book.dto.BookSummaryResponse;
+import com.example.ex02.Book.service.BookPriceHistoryService;
 import com.example.ex02.Book.service.BookPriceService;
-import com.example.ex02.Book.service.AladinBestsellerService;
-import com.example.ex02.Book.service.StoreBestsellerScrapeService;
+import com.example.ex02.Book.service.BestsellerAggregateService;
+import com.example.ex02.Book.service.BestsellerRefreshService;
+import com.example.ex02.Book.service.BestsellerSource;
 import com.example.ex02.Book.service.BookSummaryService;
 import com.example.ex02.Book.service.BookService;
-import com.example.ex02.Book.service.Data4LibraryLoanRankingService;
+import com.example.ex02.Book.service.BookImportService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -22,16 +35,44 @@ import java.util.List;
 public class BookController {
 
     private final BookService bookService;
+    private final BookImportService bookImportService;
     private final BookPriceService bookPriceService;
+    private final BookPriceHistoryService bookPriceHistoryService;
     private final BookSummaryService bookSummaryService;
-    private final AladinBestsellerService aladinBestsellerService;
-    private final StoreBestsellerScrapeService storeBestsellerScrapeService;
-    private final Data4LibraryLoanRankingService data4LibraryLoanRankingService;
+    // 베스트셀러 목록은 백그라운드에서 수집한 스냅샷만 읽음
+    private final BestsellerRefreshService bestsellerRefreshService;
+    private final BestsellerAggregateService bestsellerAggregateService;
 
     // 도서 목록 조회(검색어 포함)
     @GetMapping
-    public ResponseEntity<List<BookDTO>> getAllBooks(@RequestParam(required = false) String query) {
-        return ResponseEntity.ok(bookService.searchBooks(query));
+    public ResponseEntity<BookSearchResponse> getAllBooks(@RequestParam(required = false) String query) {
+        List<BookDTO> books = bookService.searchBooks(query);
+        // 결과가 없으면 교정 제안어를 함께 전달
+        String suggestion = books.isEmpty() ? bookService.suggestCorrection(query) : null;
+        return ResponseEntity.ok(new BookSearchResponse(books, suggestion));
+    }
+
+    // 도서 목록/검색 페이지 조회 (book_id 키셋 커서, summary 제외)
+    @GetMapping("/page")
+    public ResponseEntity<BookPageDTO> getBookPage(
+            @RequestParam(required = false) String query,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            return ResponseEntity.ok(bookService.getBookPage(query, cursor, size));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // 검색어 자동완성 (제목/저자 접두어, 인기순)
+    @GetMapping("/suggest")
+    public ResponseEntity<List<BookSuggestionDTO>> suggestBooks(
+            @RequestParam(required = false) String query,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(bookService.suggestBooks(query, limit));
     }
 
     // 도서 상세 조회
@@ -55,36 +96,52 @@ public class BookController {
         return ResponseEntity.ok(bookPriceService.getPrices(id, title));
     }
 
+    // 온라인 서점 가격 스트리밍 (SSE: 판매처 응답마다 price 이벤트, 마지막에 complete 이벤트)
+    @GetMapping(value = "/{id}/shops/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamBookShops(
+            @PathVariable Long id,
+            @RequestParam(value = "title", required = false) String title
+    ) {
+        return bookPriceService.streamPrices(id, title);
+    }
+
+    // 판매처 가격 이력 (배치로 수집한 북마크 도서만 존재)
+    @GetMapping("/{id}/shops/history")
+    public ResponseEntity<?> getBookShopHistory(
+            @PathVariable Long id,
+            @RequestParam(value = "days", defaultValue = "30") int days
+    ) {
+        return ResponseEntity.ok(bookPriceHistoryService.getHistory(id, Math.min(days, 365)));
+    }
+
+    // 베스트셀러 통합 목록 (출처별 TOP10 + 서점 합산 TOP10, 스냅샷 갱신 시 미리 계산)
+    @GetMapping("/bestsellers/all")
+    public ResponseEntity<BestsellerAggregateDTO> getAllBestsellers() {
+        return ResponseEntity.ok(bestsellerAggregateService.getAggregate());
+    }
+
     // 알라딘 베스트셀러 TOP10
     @GetMapping("/bestsellers/aladin")
     public ResponseEntity<?> getAladinBestsellers() {
-        List<BestsellerItemDTO> items = aladinBestsellerService.fetchTop10();
-        bookService.ensureBooksByIsbn(items);
-        return ResponseEntity.ok(items);
+        return ResponseEntity.ok(bestsellerRefreshService.getItems(BestsellerSource.ALADIN));
     }
 
     // 교보 베스트셀러 TOP10(스크래핑)
     @GetMapping("/bestsellers/kyobo")
     public ResponseEntity<?> getKyoboBestsellers() {
-        List<BestsellerItemDTO> items = storeBestsellerScrapeService.fetchKyoboTop10();
-        bookService.ensureBooksByIsbn(items);
-        return ResponseEntity.ok(items);
+        return ResponseEntity.ok(bestsellerRefreshService.getItems(BestsellerSource.KYOBO));
     }
 
     // YES24 베스트셀러 TOP10(스크래핑)
     @GetMapping("/bestsellers/yes24")
     public ResponseEntity<?> getYes24Bestsellers() {
-        List<BestsellerItemDTO> items = storeBestsellerScrapeService.fetchYes24Top10();
-        bookService.ensureBooksByIsbn(items);
-        return ResponseEntity.ok(items);
+        return ResponseEntity.ok(bestsellerRefreshService.getItems(BestsellerSource.YES24));
     }
 
     // 서울 도서관 대출 TOP10
     @GetMapping("/loans/seoul")
     public ResponseEntity<List<BestsellerItemDTO>> getSeoulLoanTop10() {
-        List<BestsellerItemDTO> items = data4LibraryLoanRankingService.fetchSeoulMonthlyTop10();
-        bookService.ensureBooksByIsbn(items);
-        return ResponseEntity.ok(items);
+        return ResponseEntity.ok(bestsellerRefreshService.getItems(BestsellerSource.SEOUL_LOAN));
     }
     
     // ========================================
@@ -103,6 +160,28 @@ public class BookController {
         return ResponseEntity.ok(bookService.updateBook(id, bookDTO));
     }
 
+    // Bulk import from a raw CSV/XLSX request body (not multipart, so no upload size limit)
+    @PostMapping("/import")
+    public ResponseEntity<BookImportJobDTO> importBooks(
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request
+    ) throws IOException {
+        try {
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(bookImportService.startImport(request.getInputStream(), format));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    // Bulk import progress
+    @GetMapping("/import/{jobId}")
+    public ResponseEntity<BookImportJobDTO> getImportJob(@PathVariable String jobId) {
+        return bookImportService.findJob(jobId)
+                .map(ResponseEntity::ok)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Import job not found: " + jobId));
+    }
+
     // Delete a book
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteBook(@PathVariable Long id) {
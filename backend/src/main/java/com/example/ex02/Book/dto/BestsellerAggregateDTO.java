@@ -0,0 +1,22 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 베스트셀러 통합 응답 DTO (sources: ALADIN / KYOBO / YES24 / SEOUL_LOAN 목록, consensus: 서점 합산 TOP10)
+public class BestsellerAggregateDTO {
+
+    private Map<String, List<BestsellerEntryDTO>> sources;
+    private List<ConsensusBestsellerDTO> consensus;
+    private LocalDateTime generatedAt;
+}
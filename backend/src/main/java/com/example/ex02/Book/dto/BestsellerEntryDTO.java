@@ -0,0 +1,23 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 통합 베스트셀러 목록의 출처별 항목 DTO (bookId: 로컬 도서 번호, 없으면 null)
+public class BestsellerEntryDTO {
+
+    private int rank;
+    private Long bookId;
+    private String title;
+    private String author;
+    private String publisher;
+    private String isbn13;
+    private String cover;
+    private String link;
+}
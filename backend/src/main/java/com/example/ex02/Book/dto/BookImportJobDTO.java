@@ -0,0 +1,25 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 도서 일괄 등록 작업 진행 상황 DTO
+public class BookImportJobDTO {
+
+    private String jobId;
+    private String format;
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private long rowsRead;
+    private long inserted;
+    private long duplicates;        // 이미 등록된 ISBN 또는 파일 내 중복
+    private long invalid;           // ISBN/제목 누락 또는 잘못된 ISBN
+    private long elapsedMs;
+    private double rowsPerSecond;
+    private String error;
+}
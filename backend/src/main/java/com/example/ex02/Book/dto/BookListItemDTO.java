@@ -0,0 +1,25 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 도서 목록용 경량 DTO (summary 제외)
+public class BookListItemDTO {
+
+    private Long bookId;
+    private String isbn;
+    private String title;
+    private String author;
+    private String publisher;
+    private LocalDate publishedDate;
+    private String imageUrl;
+    private String ages;
+}
@@ -0,0 +1,20 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 키셋 페이지 응답 DTO (nextCursor 가 null 이면 마지막 페이지, 결과가 없으면 suggestion 에 교정 제안어)
+public class BookPageDTO {
+
+    private List<BookListItemDTO> items;
+    private String nextCursor;
+    private String suggestion;
+}
@@ -0,0 +1,21 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 판매처 가격 이력 DTO (그래프용)
+public class BookPriceHistoryDTO {
+
+    private String provider;
+    private Integer price;
+    private String status;
+    private LocalDateTime fetchedAt;
+}
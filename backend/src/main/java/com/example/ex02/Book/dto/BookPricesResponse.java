@@ -0,0 +1,20 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 판매처 가격 응답 DTO (providerStatus: 판매처별 OK / NOT_FOUND / TIMEOUT / ERROR)
+public class BookPricesResponse {
+
+    private List<BookPriceDTO> prices;
+    private Map<String, String> providerStatus;
+}
@@ -0,0 +1,19 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 도서 검색 응답 DTO (결과가 없으면 suggestion 에 "이것을 찾으셨나요?" 교정 제안어)
+public class BookSearchResponse {
+
+    private List<BookDTO> books;
+    private String suggestion;
+}
@@ -0,0 +1,18 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 검색어 자동완성 항목 DTO
+public class BookSuggestionDTO {
+
+    private Long bookId;
+    private String title;
+    private String author;
+}
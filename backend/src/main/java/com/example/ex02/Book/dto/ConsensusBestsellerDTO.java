@@ -0,0 +1,27 @@
+package com.example.ex02.Book.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+// 서점 합산 순위 DTO (score: 보르다 점수 합, sourceRanks: 출처별 순위)
+public class ConsensusBestsellerDTO {
+
+    private int rank;
+    private int score;
+    private Map<String, Integer> sourceRanks;
+    private Long bookId;
+    private String title;
+    private String author;
+    private String publisher;
+    private String isbn13;
+    private String cover;
+    private String link;
+}
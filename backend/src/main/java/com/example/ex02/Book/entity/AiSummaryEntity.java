@@ -0,0 +1,45 @@
+package com.example.ex02.Book.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "ai_summary", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_ai_summary_book_prompt", columnNames = {"book_id", "prompt_hash"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+// 도서별 AI 요약 저장본 (prompt_hash: 프롬프트 템플릿 + 모델 해시, 둘 중 하나가 바뀌면 새로 생성)
+public class AiSummaryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "summary_id")
+    private Long summaryId;
+
+    // 캐시 성격이라 도서 삭제를 막지 않도록 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BookEntity book;
+
+    @Column(name = "prompt_hash", length = 64, nullable = false)
+    private String promptHash;
+
+    @Column(length = 100, nullable = false)
+    private String model;
+
+    @Lob
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String summary;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
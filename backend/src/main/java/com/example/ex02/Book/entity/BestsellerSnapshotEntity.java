@@ -0,0 +1,52 @@
+package com.example.ex02.Book.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bestseller_snapshot", indexes = {
+    @Index(name = "idx_bestseller_snapshot_source", columnList = "source, rank_no")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+// 출처별 마지막 베스트셀러 목록 (재기동 직후 바로 응답하기 위한 저장본)
+public class BestsellerSnapshotEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long snapshotId;
+
+    // BestsellerSource 이름 (ALADIN / KYOBO / YES24 / SEOUL_LOAN)
+    @Column(length = 20, nullable = false)
+    private String source;
+
+    @Column(name = "rank_no", nullable = false)
+    private Integer rankNo;
+
+    @Column(length = 200)
+    private String title;
+
+    @Column(length = 500)
+    private String author;
+
+    @Column(length = 100)
+    private String publisher;
+
+    @Column(length = 20)
+    private String isbn13;
+
+    @Column(length = 500)
+    private String cover;
+
+    @Column(length = 500)
+    private String link;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -1,5 +1,6 @@
 package com.example.ex02.Book.entity;
 
+import com.example.ex02.Book.util.IsbnUtils;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -8,7 +9,9 @@ import lombok.Setter;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "book")
+@Table(name = "book", indexes = {
+    @Index(name = "uk_book_isbn13", columnList = "isbn13", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +26,10 @@ public class BookEntity {
     @Column(length = 20)
     private String isbn;
 
+    // 정규화된 ISBN-13 (하이픈/공백 제거, ISBN-10 변환, 체크디지트 검증)
+    @Column(length = 13)
+    private String isbn13;
+
     @Column(length = 200)
     private String title;
 
@@ -44,4 +51,10 @@ public class BookEntity {
 
     @Column(length = 20)
     private String ages;
+
+    @PrePersist
+    @PreUpdate
+    protected void syncIsbn13() {
+        this.isbn13 = IsbnUtils.toIsbn13(isbn);
+    }
 }
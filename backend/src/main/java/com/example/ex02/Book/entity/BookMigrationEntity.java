@@ -0,0 +1,24 @@
+package com.example.ex02.Book.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_migration")
+@Getter
+@Setter
+@NoArgsConstructor
+// 1회성 데이터 보정 작업 완료 기록 (행이 있으면 다음 기동부터 건너뜀)
+public class BookMigrationEntity {
+
+    @Id
+    @Column(length = 100)
+    private String name;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
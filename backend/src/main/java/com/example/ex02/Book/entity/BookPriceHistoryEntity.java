@@ -0,0 +1,48 @@
+package com.example.ex02.Book.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "book_price_history", indexes = {
+    @Index(name = "idx_price_history_book_fetched", columnList = "book_id, fetched_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+// 판매처별 가격 이력 엔티티 (같은 fetched_at 을 가진 행들이 한 번의 가격 스냅샷)
+public class BookPriceHistoryEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "history_id")
+    private Long historyId;
+
+    // 이력은 도서에 딸린 데이터라 도서 삭제를 막지 않도록 함께 삭제
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "book_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private BookEntity book;
+
+    @Column(length = 20, nullable = false)
+    private String provider;
+
+    // NOT_FOUND / ERROR 인 경우 null
+    private Integer price;
+
+    @Column(length = 500)
+    private String link;
+
+    // OK / NOT_FOUND / ERROR
+    @Column(length = 20, nullable = false)
+    private String status;
+
+    @Column(name = "fetched_at", nullable = false)
+    private LocalDateTime fetchedAt;
+}
@@ -1,5 +1,9 @@
 package com.example.ex02.Book.external;
 
+import com.example.ex02.common.CircuitBreaker;
+import com.example.ex02.common.CircuitBreakerRegistry;
+import com.example.ex02.common.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -22,16 +26,22 @@ public class Data4LibraryClient {
     private final String apiKey;
     private final String baseUrl;
     private final RestTemplate restTemplate = new RestTemplate();
+    private final SingleFlight<String, Data4LibraryBookInfo> lookupFlight;
+    private final CircuitBreaker breaker;
 
     public Data4LibraryClient(
             @Value("${data4library.api-key:}") String apiKey,
-            @Value("${data4library.base-url:http://data4library.kr/api}") String baseUrl
+            @Value("${data4library.base-url:http://data4library.kr/api}") String baseUrl,
+            MeterRegistry meterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry
     ) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
+        this.lookupFlight = new SingleFlight<>("data4library.isbn13", meterRegistry);
+        this.breaker = circuitBreakerRegistry.get("data4library");
     }
 
-    // ISBN13 기준 도서 상세 조회
+    // ISBN13 기준 도서 상세 조회 (같은 ISBN 동시 조회는 한 번만 호출)
     public Data4LibraryBookInfo fetchByIsbn13(String isbn13) {
         if (isbn13 == null || isbn13.isBlank()) {
             logger.warn("Data4Library fetch skipped: empty isbn13");
@@ -41,7 +51,11 @@ public class Data4LibraryClient {
             logger.warn("Data4Library fetch skipped: missing API key");
             return null;
         }
+        return lookupFlight.execute(isbn13.trim(), () -> requestByIsbn13(isbn13));
+    }
 
+    // Data4Library 상세 조회 API 호출
+    private Data4LibraryBookInfo requestByIsbn13(String isbn13) {
         try {
             String url = UriComponentsBuilder.fromHttpUrl(baseUrl)
                     .path("/srchDtlList")
@@ -51,7 +65,7 @@ public class Data4LibraryClient {
                     .build(true)
                     .toUriString();
 
-            String xml = restTemplate.getForObject(url, String.class);
+            String xml = breaker.execute(() -> restTemplate.getForObject(url, String.class));
             if (xml == null || xml.isBlank()) {
                 logger.warn("Data4Library returned empty response for isbn13={}", isbn13);
                 return null;
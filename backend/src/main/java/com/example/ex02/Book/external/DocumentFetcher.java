@@ -0,0 +1,11 @@
+package com.example.ex02.Book.external;
+
+import org.jsoup.nodes.Document;
+
+import java.io.IOException;
+
+// HTML 페이지 조회 전략 (교보 수집 체인: 공용 풀 클라이언트 재시도 → HTTP/2 폴백)
+public interface DocumentFetcher {
+
+    Document fetch(String url, String referrer, int timeoutMs) throws IOException;
+}
@@ -0,0 +1,92 @@
+package com.example.ex02.Book.external;
+
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+// JDK HttpClient(HTTP/2 우선, HTTP/1.1 자동 협상) 기반 폴백 페이지 조회 (외부 프로세스 없이 JVM 안에서 처리)
+@Component
+public class Http2DocumentFetcher implements DocumentFetcher {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36";
+    private static final Pattern CHARSET = Pattern.compile("charset\\s*=\\s*\"?([^\";\\s]+)", Pattern.CASE_INSENSITIVE);
+
+    private final HttpClient httpClient;
+
+    public Http2DocumentFetcher() {
+        this(Duration.ofSeconds(5));
+    }
+
+    Http2DocumentFetcher(Duration connectTimeout) {
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .build();
+    }
+
+    // 2xx 가 아니면 HttpStatusException, 시간 초과면 HttpTimeoutException
+    @Override
+    public Document fetch(String url, String referrer, int timeoutMs) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("User-Agent", USER_AGENT)
+                .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8")
+                .header("Accept-Language", "ko-KR,ko;q=0.9,en;q=0.8")
+                .header("Accept-Encoding", "gzip, deflate")
+                .GET();
+        if (referrer != null && !referrer.isBlank()) {
+            builder.header("Referer", referrer);
+        }
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching " + url, e);
+        }
+
+        try (InputStream body = decode(response)) {
+            int status = response.statusCode();
+            if (status < 200 || status >= 300) {
+                throw new HttpStatusException("HTTP error fetching URL", status, url);
+            }
+            // 리다이렉트 후 최종 주소를 상대 링크 기준으로 사용, charset 이 없으면 Jsoup 이 BOM/meta 로 판별
+            return Jsoup.parse(body, charsetOf(response), response.uri().toString());
+        }
+    }
+
+    // Content-Encoding 에 맞춰 압축 해제 (JDK 클라이언트는 자동 해제하지 않음)
+    private InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        String encoding = response.headers().firstValue("Content-Encoding").orElse("").trim().toLowerCase(Locale.ROOT);
+        return switch (encoding) {
+            case "gzip", "x-gzip" -> new GZIPInputStream(response.body());
+            case "deflate" -> new InflaterInputStream(response.body());
+            default -> response.body();
+        };
+    }
+
+    static String charsetOf(HttpResponse<?> response) {
+        return response.headers().firstValue("Content-Type")
+                .map(CHARSET::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .orElse(null);
+    }
+}
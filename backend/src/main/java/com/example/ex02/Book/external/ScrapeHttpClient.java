@@ -0,0 +1,130 @@
+package com.example.ex02.Book.external;
+
+import jakarta.annotation.PreDestroy;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.SocketConfig;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+
+// 스크래핑 공용 HTTP 클라이언트 (커넥션 풀 + keep-alive 로 TCP/TLS 연결 재사용, gzip/brotli 응답 자동 해제)
+@Component
+public class ScrapeHttpClient implements DocumentFetcher {
+
+    private static final String USER_AGENT =
+            "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/124.0 Safari/537.36";
+
+    private final CloseableHttpClient httpClient;
+
+    public ScrapeHttpClient(
+            @Value("${scrape.http.max-total:64}") int maxTotal,
+            @Value("${scrape.http.max-per-host:6}") int maxPerHost,
+            @Value("${scrape.http.connect-timeout-ms:3000}") long connectTimeoutMillis
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                // 호스트(route)별 동시 연결 수 제한
+                .setMaxConnPerRoute(maxPerHost)
+                .setDefaultSocketConfig(SocketConfig.custom().setSoKeepAlive(true).build())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMillis))
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .build())
+                .build();
+
+        // 압축 해제는 기본 활성화 (org.brotli:dec 가 있으면 Accept-Encoding 에 br 포함)
+        this.httpClient = HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setUserAgent(USER_AGENT)
+                .setDefaultHeaders(List.of(
+                        new BasicHeader("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"),
+                        new BasicHeader("Accept-Language", "ko-KR,ko;q=0.9,en;q=0.8")))
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        // 풀에서 연결을 얻기 위해 기다리는 최대 시간
+                        .setConnectionRequestTimeout(Timeout.ofSeconds(5))
+                        .build())
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        httpClient.close();
+    }
+
+    @Override
+    public Document fetch(String url, String referrer, int timeoutMs) throws IOException {
+        return get(url, referrer, timeoutMs, Map.of());
+    }
+
+    // HTML 페이지 조회 후 Jsoup 파싱
+    public Document get(String url, int timeoutMs) throws IOException {
+        return get(url, null, timeoutMs, Map.of());
+    }
+
+    public Document get(String url, String referrer, int timeoutMs) throws IOException {
+        return get(url, referrer, timeoutMs, Map.of());
+    }
+
+    // 2xx 가 아니면 Jsoup 과 같은 HttpStatusException, 응답 본문은 스트림 그대로 Jsoup 에 전달
+    public Document get(String url, String referrer, int timeoutMs, Map<String, String> headers) throws IOException {
+        HttpGet request = new HttpGet(url);
+        request.setConfig(RequestConfig.custom()
+                .setResponseTimeout(Timeout.ofMilliseconds(timeoutMs))
+                .build());
+        if (referrer != null) {
+            request.setHeader("Referer", referrer);
+        }
+        headers.forEach(request::setHeader);
+
+        HttpClientContext context = HttpClientContext.create();
+        return httpClient.execute(request, context, response -> {
+            int status = response.getCode();
+            if (status < 200 || status >= 300) {
+                throw new HttpStatusException("HTTP error fetching URL", status, url);
+            }
+            HttpEntity entity = response.getEntity();
+            String baseUri = finalUri(context, url);
+            if (entity == null) {
+                return Jsoup.parse("", baseUri);
+            }
+            // 헤더에 charset 이 없으면 Jsoup 이 BOM/meta 태그로 판별
+            ContentType contentType = ContentType.parseLenient(entity.getContentType());
+            Charset charset = contentType != null ? contentType.getCharset() : null;
+            try (InputStream body = entity.getContent()) {
+                return Jsoup.parse(body, charset != null ? charset.name() : null, baseUri);
+            }
+        });
+    }
+
+    // 리다이렉트된 경우 상대 링크(absUrl) 기준을 최종 주소로
+    private String finalUri(HttpClientContext context, String url) {
+        if (context.getRedirectLocations() == null) {
+            return url;
+        }
+        List<URI> locations = context.getRedirectLocations().getAll();
+        return locations.isEmpty() ? url : locations.get(locations.size() - 1).toString();
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.ex02.Book.llm;
 
+import com.example.ex02.common.CircuitBreaker;
+import com.example.ex02.common.CircuitBreakerRegistry;
+import com.example.ex02.common.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -16,18 +20,29 @@ public class LlmSummaryClient {
     private final String baseUrl;
     private final String model;
     private final RestTemplate restTemplate = new RestTemplate();
+    private final SingleFlight<String, String> summaryFlight;
+    private final CircuitBreaker breaker;
 
     public LlmSummaryClient(
             @Value("${llm.gemini.api-key:}") String apiKey,
             @Value("${llm.gemini.base-url:https://generativelanguage.googleapis.com/v1beta}") String baseUrl,
-            @Value("${llm.gemini.model:gemini-1.5-flash}") String model
+            @Value("${llm.gemini.model:gemini-1.5-flash}") String model,
+            MeterRegistry meterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry
     ) {
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
         this.model = model;
+        this.summaryFlight = new SingleFlight<>("llm.summary", meterRegistry);
+        this.breaker = circuitBreakerRegistry.get("gemini");
     }
 
-    // 프롬프트 기반 요약 생성
+    // 사용 중인 모델 이름 (요약 저장 키에 포함)
+    public String getModel() {
+        return model;
+    }
+
+    // 프롬프트 기반 요약 생성 (같은 프롬프트 동시 요청은 한 번만 호출)
     public String summarize(String prompt) {
         if (prompt == null || prompt.isBlank()) {
             logger.warn("Gemini summarize skipped: empty prompt");
@@ -37,7 +52,11 @@ public class LlmSummaryClient {
             logger.warn("Gemini summarize skipped: missing API key");
             return null;
         }
+        return summaryFlight.execute(prompt, () -> generate(prompt));
+    }
 
+    // Gemini generateContent 호출
+    private String generate(String prompt) {
         String url = String.format(
                 "%s/models/%s:generateContent?key=%s",
                 baseUrl,
@@ -48,7 +67,8 @@ public class LlmSummaryClient {
         GeminiRequest request = GeminiRequest.fromPrompt(prompt);
 
         try {
-            GeminiResponse response = restTemplate.postForObject(url, request, GeminiResponse.class);
+            GeminiResponse response = breaker.execute(
+                    () -> restTemplate.postForObject(url, request, GeminiResponse.class));
             String text = response != null ? response.firstText() : null;
             if (text == null || text.isBlank()) {
                 logger.warn("Gemini response is empty");
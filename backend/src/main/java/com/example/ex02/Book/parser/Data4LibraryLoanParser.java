@@ -0,0 +1,65 @@
+package com.example.ex02.Book.parser;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.example.ex02.Book.parser.ParseSupport.TOP_N;
+
+// Data4Library 대출 랭킹(loanItemSrchByLib) XML 파서
+public final class Data4LibraryLoanParser {
+
+    private Data4LibraryLoanParser() {
+    }
+
+    // <doc> 항목을 순서대로 최대 10건
+    public static List<BestsellerItemDTO> parse(InputStream in) throws IOException {
+        Document doc;
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(false);
+            doc = factory.newDocumentBuilder().parse(in);
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IOException("Data4Library XML parse failed: " + e.getMessage(), e);
+        }
+
+        NodeList docNodes = doc.getElementsByTagName("doc");
+        if (docNodes == null || docNodes.getLength() == 0) {
+            return Collections.emptyList();
+        }
+
+        List<BestsellerItemDTO> results = new ArrayList<>();
+        for (int i = 0; i < docNodes.getLength() && results.size() < TOP_N; i++) {
+            if (!(docNodes.item(i) instanceof Element item)) {
+                continue;
+            }
+            String title = textOf(item, "bookname");
+            String author = textOf(item, "authors");
+            String publisher = textOf(item, "publisher");
+            String isbn13 = textOf(item, "isbn13");
+            String cover = textOf(item, "bookImageURL");
+            results.add(new BestsellerItemDTO(title, author, publisher, isbn13, cover, null));
+        }
+        return results;
+    }
+
+    // XML 태그 텍스트 추출
+    private static String textOf(Element element, String tagName) {
+        NodeList nodes = element.getElementsByTagName(tagName);
+        if (nodes == null || nodes.getLength() == 0) {
+            return null;
+        }
+        String text = nodes.item(0).getTextContent();
+        return text != null ? text.trim() : null;
+    }
+}
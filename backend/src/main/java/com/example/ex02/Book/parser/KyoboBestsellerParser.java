@@ -0,0 +1,261 @@
+package com.example.ex02.Book.parser;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.common.XlsxRowReader;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.ex02.Book.parser.ParseSupport.TOP_N;
+import static com.example.ex02.Book.parser.ParseSupport.attrOf;
+import static com.example.ex02.Book.parser.ParseSupport.normalizeUrl;
+import static com.example.ex02.Book.parser.ParseSupport.textOf;
+
+// 교보 베스트셀러 페이지/엑셀 파서 (네트워크 없이 문서만 받아 TOP10 추출)
+public final class KyoboBestsellerParser {
+
+    private KyoboBestsellerParser() {
+    }
+
+    // 상품 목록 페이지(PC/모바일) HTML 스트림 파싱
+    public static List<BestsellerItemDTO> parse(InputStream in, String baseUri) throws IOException {
+        return parseProductList(Jsoup.parse(in, null, baseUri));
+    }
+
+    // 상품 목록 페이지 (li.prod_item)
+    public static List<BestsellerItemDTO> parseProductList(Document doc) {
+        Elements items = doc.select("li.prod_item, .prod_list .prod_item, .prod_list_type .prod_item");
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<BestsellerItemDTO> results = new ArrayList<>();
+        Set<String> seenTitles = new HashSet<>();
+        for (Element item : items) {
+            if (results.size() >= TOP_N) break;
+
+            String title = textOf(item.selectFirst(".prod_info .prod_name"));
+            if (title.isBlank()) {
+                title = textOf(item.selectFirst("a.prod_info, .prod_name"));
+            }
+            if (title.isBlank() || !seenTitles.add(title)) continue;
+
+            String author = textOf(item.selectFirst(".prod_author"));
+            String publisher = textOf(item.selectFirst(".prod_publish"));
+
+            Element coverEl = item.selectFirst(".prod_thumb_box img, .prod_thumb img, img");
+            String cover = attrOf(coverEl, "data-src");
+            if (cover.isBlank()) {
+                cover = attrOf(coverEl, "data-original");
+            }
+            if (cover.isBlank()) {
+                cover = attrOf(coverEl, "src");
+            }
+            cover = normalizeUrl(cover);
+
+            String link = normalizeUrl(attrOf(item.selectFirst("a.prod_info, .prod_name a"), "href"));
+
+            results.add(new BestsellerItemDTO(title, author, publisher, "", cover, link));
+        }
+        return results;
+    }
+
+    // 스토어 주간 베스트 페이지 (ol.grid li)
+    public static List<BestsellerItemDTO> parseStoreList(Document doc) {
+        Elements items = doc.select("ol.grid li");
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<BestsellerItemDTO> results = new ArrayList<>();
+        Set<String> seenTitles = new HashSet<>();
+        for (Element item : items) {
+            if (results.size() >= TOP_N) break;
+
+            Element titleEl = item.selectFirst("a.prod_link.line-clamp-2, a.prod_link.line-clamp-2.font-medium");
+            String title = textOf(titleEl);
+            if (title.isBlank()) {
+                title = textOf(item.selectFirst("a.prod_link[href*='/detail/']"));
+            }
+            if (title.isBlank()) {
+                title = attrOf(item.selectFirst("a.prod_link img[alt]"), "alt");
+            }
+            if (title.isBlank() || !seenTitles.add(title)) continue;
+
+            String[] metaParts = splitMeta(textOf(item.selectFirst("div.line-clamp-2.flex, div.line-clamp-2")));
+            String author = metaParts[0];
+            String publisher = metaParts[1];
+
+            String cover = normalizeUrl(attrOf(item.selectFirst("a.prod_link img[src]"), "src"));
+            String link = normalizeUrl(attrOf(titleEl, "href"));
+
+            results.add(new BestsellerItemDTO(title, author, publisher, "", cover, link));
+        }
+        return results;
+    }
+
+    // 구 사이트 베스트셀러 페이지
+    public static List<BestsellerItemDTO> parseLegacyList(Document doc) {
+        Elements items = doc.select(".list_detail, .detail, li, .book_list li");
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<BestsellerItemDTO> results = new ArrayList<>();
+        Set<String> seenTitles = new HashSet<>();
+        for (Element item : items) {
+            if (results.size() >= TOP_N) break;
+
+            String title = textOf(item.selectFirst("a.title, .title a, .detail .title a, .prod_name, .prod_name a"));
+            if (title.isBlank() || !seenTitles.add(title)) continue;
+
+            String author = textOf(item.selectFirst(".author, .detail .author, .info .author"));
+            String publisher = textOf(item.selectFirst(".publisher, .detail .publisher, .info .publisher"));
+
+            Element coverEl = item.selectFirst(".cover img, .book_img img, img");
+            String cover = attrOf(coverEl, "data-src");
+            if (cover.isBlank()) {
+                cover = attrOf(coverEl, "src");
+            }
+            cover = normalizeUrl(cover);
+
+            String link = normalizeUrl(attrOf(item.selectFirst("a.title, .title a, .prod_name a"), "href"));
+
+            results.add(new BestsellerItemDTO(title, author, publisher, "", cover, link));
+        }
+        return results;
+    }
+
+    // 엑셀 다운로드 (SAX 이벤트 방식, 첫 행은 헤더, TOP10 을 채우면 나머지 행은 읽지 않음)
+    public static List<BestsellerItemDTO> parseExcel(InputStream in) throws IOException {
+        List<BestsellerItemDTO> results = new ArrayList<>();
+        Map<String, Integer> columns = new HashMap<>();
+        XlsxRowReader.read(in, (rowIndex, row) -> {
+            if (columns.isEmpty()) {
+                columns.putAll(mapExcelColumns(row));
+                return true;
+            }
+
+            String title = cellValue(row, columns.get("title"));
+            if (title.isBlank()) return true;
+
+            String author = cellValue(row, columns.get("author"));
+            String publisher = cellValue(row, columns.get("publisher"));
+            String isbn = cellValue(row, columns.get("isbn13"));
+            if (isbn.isBlank()) {
+                isbn = cellValue(row, columns.get("isbn"));
+            }
+            String productCode = cellValue(row, columns.get("productCode"));
+            String saleProductId = cellValue(row, columns.get("saleProductId"));
+            if (isbn.isBlank()) {
+                isbn = productCode;
+            }
+            String cover = cellValue(row, columns.get("cover"));
+            String link = cellValue(row, columns.get("link"));
+
+            if (cover.isBlank()) {
+                String coverCode = !productCode.isBlank() ? productCode : isbn;
+                if (!coverCode.isBlank()) {
+                    cover = "https://contents.kyobobook.co.kr/sih/fit-in/300x0/filters:format(webp)/pdt/"
+                            + coverCode + ".jpg";
+                }
+            }
+            if (link.isBlank() && !saleProductId.isBlank()) {
+                link = "https://product.kyobobook.co.kr/detail/" + saleProductId;
+            }
+
+            results.add(new BestsellerItemDTO(title, author, publisher, isbn, cover, link));
+            return results.size() < TOP_N;
+        });
+        return results;
+    }
+
+    // 헤더 이름으로 열 번호 매핑 (못 찾은 열은 교보 양식의 기본 위치 사용)
+    static Map<String, Integer> mapExcelColumns(List<String> header) {
+        Map<String, Integer> map = new HashMap<>();
+        map.put("title", -1);
+        map.put("author", -1);
+        map.put("publisher", -1);
+        map.put("isbn13", -1);
+        map.put("isbn", -1);
+        map.put("productCode", -1);
+        map.put("saleProductId", -1);
+        map.put("cover", -1);
+        map.put("link", -1);
+
+        for (int idx = 0; idx < header.size(); idx++) {
+            String value = normalizeHeader(header.get(idx));
+            if (value.isEmpty()) continue;
+
+            if (value.contains("상품명")) {
+                map.put("title", idx);
+            } else if (value.contains("인물")) {
+                map.put("author", idx);
+            } else if (value.contains("출판사")) {
+                map.put("publisher", idx);
+            } else if (value.contains("isbn13")) {
+                map.put("isbn13", idx);
+            } else if (value.contains("isbn")) {
+                map.put("isbn", idx);
+            } else if (value.contains("상품코드")) {
+                map.put("productCode", idx);
+            } else if (value.contains("판매상품id")) {
+                map.put("saleProductId", idx);
+            } else if (value.contains("컴버") || value.contains("표지")) {
+                map.put("cover", idx);
+            } else if (value.contains("상품url") || value.contains("상품링크") || value.contains("링크")) {
+                map.put("link", idx);
+            }
+
+        }
+        if (map.get("productCode") == -1) {
+            map.put("productCode", 1);
+        }
+        if (map.get("saleProductId") == -1) {
+            map.put("saleProductId", 2);
+        }
+        if (map.get("author") == -1) {
+            map.put("author", 9);
+        }
+        if (map.get("publisher") == -1) {
+            map.put("publisher", 10);
+        }
+        if (map.get("title") == -1) {
+            map.put("title", 3);
+        }
+        return map;
+    }
+
+    private static String normalizeHeader(String value) {
+        if (value == null) return "";
+        return value.replaceAll("\\s+", "").toLowerCase();
+    }
+
+    private static String cellValue(List<String> row, Integer index) {
+        if (index == null || index < 0 || index >= row.size()) return "";
+        String value = row.get(index);
+        return value == null ? "" : value.trim();
+    }
+
+    // "저자 · 출판사" 형태 메타 문자열 분리
+    private static String[] splitMeta(String meta) {
+        if (meta == null || meta.isBlank()) {
+            return new String[] {"", ""};
+        }
+        String[] parts = meta.split("\\s*\\u00B7\\s*");
+        String author = parts.length > 0 ? parts[0].trim() : "";
+        String publisher = parts.length > 1 ? parts[1].trim() : "";
+        return new String[] {author, publisher};
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ex02.Book.parser;
+
+import org.jsoup.nodes.Element;
+
+// 파서 공용 문자열 헬퍼 (null 요소는 "" 로 처리)
+final class ParseSupport {
+
+    // 목록 파서가 돌려주는 최대 건수
+    static final int TOP_N = 10;
+
+    private ParseSupport() {
+    }
+
+    static String textOf(Element element) {
+        return element == null ? "" : element.text().trim();
+    }
+
+    static String attrOf(Element element, String attr) {
+        return element == null ? "" : element.attr(attr).trim();
+    }
+
+    // 프로토콜 생략 주소(//cdn...)는 https 로 보정
+    static String normalizeUrl(String url) {
+        if (url == null) return "";
+        String trimmed = url.trim();
+        if (trimmed.startsWith("//")) {
+            return "https:" + trimmed;
+        }
+        return trimmed;
+    }
+
+    // 숫자만 남긴 가격, 숫자가 없으면 null
+    static Integer priceOf(Element element) {
+        if (element == null) return null;
+        String digits = element.text().replaceAll("[^0-9]", "");
+        return digits.isBlank() ? null : Integer.parseInt(digits);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.ex02.Book.parser;
+
+import com.example.ex02.Book.dto.BookPriceDTO;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static com.example.ex02.Book.parser.ParseSupport.priceOf;
+
+// 판매처 검색 결과 페이지에서 첫 상품 가격/링크 추출 (결과가 없으면 null)
+public final class PriceSearchParser {
+
+    private PriceSearchParser() {
+    }
+
+    public static BookPriceDTO parseAladin(InputStream in, String baseUri) throws IOException {
+        return parseAladin(Jsoup.parse(in, null, baseUri));
+    }
+
+    public static BookPriceDTO parseKyobo(InputStream in, String baseUri) throws IOException {
+        return parseKyobo(Jsoup.parse(in, null, baseUri));
+    }
+
+    public static BookPriceDTO parseYes24(InputStream in, String baseUri) throws IOException {
+        return parseYes24(Jsoup.parse(in, null, baseUri));
+    }
+
+    // 알라딘 검색 결과
+    public static BookPriceDTO parseAladin(Document doc) {
+        Integer price = priceOf(doc.selectFirst(".ss_book_list .ss_p2 em, .ss_book_list .ss_p2 b"));
+        Element linkEl = doc.selectFirst(".ss_book_list .bo3");
+        if (price == null || linkEl == null) {
+            return null;
+        }
+        return new BookPriceDTO("ALADIN", price, linkEl.absUrl("href"));
+    }
+
+    // 교보 검색 결과
+    public static BookPriceDTO parseKyobo(Document doc) {
+        Integer price = priceOf(doc.selectFirst(".prod_price .price .val, .prod_price .price .priceVal"));
+        Element linkEl = doc.selectFirst(".prod_name_group .prod_info");
+        if (price == null || linkEl == null) {
+            return null;
+        }
+        return new BookPriceDTO("KYOBO", price, linkEl.absUrl("href"));
+    }
+
+    // YES24 검색 결과 (페이지 버전마다 가격/링크 셀렉터가 달라 순서대로 시도)
+    public static BookPriceDTO parseYes24(Document doc) {
+        Element priceEl = doc.selectFirst(".info_row.info_price .yes_b");
+        if (priceEl == null) {
+            priceEl = doc.selectFirst(".nor_price .yes_b");
+        }
+        if (priceEl == null) {
+            priceEl = doc.selectFirst(".price .yes_b");
+        }
+        if (priceEl == null) {
+            priceEl = doc.selectFirst(".s_price em");
+        }
+
+        Element linkEl = doc.selectFirst(".gd_name");
+        if (linkEl == null) {
+            linkEl = doc.selectFirst(".goods_name a");
+        }
+        if (linkEl == null) {
+            linkEl = doc.selectFirst("a.gd_name");
+        }
+
+        Integer price = priceOf(priceEl);
+        if (price == null || linkEl == null) {
+            return null;
+        }
+
+        String link = linkEl.absUrl("href");
+        if (link.isBlank()) {
+            link = "https://www.yes24.com" + linkEl.attr("href");
+        }
+        return new BookPriceDTO("YES24", price, link);
+    }
+}
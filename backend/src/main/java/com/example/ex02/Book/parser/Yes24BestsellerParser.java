@@ -0,0 +1,99 @@
+package com.example.ex02.Book.parser;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.example.ex02.Book.parser.ParseSupport.TOP_N;
+import static com.example.ex02.Book.parser.ParseSupport.attrOf;
+import static com.example.ex02.Book.parser.ParseSupport.normalizeUrl;
+import static com.example.ex02.Book.parser.ParseSupport.textOf;
+
+// YES24 베스트셀러 목록/상품 상세 파서 (목록의 ISBN 은 비워 두고 상세 페이지에서 채움)
+public final class Yes24BestsellerParser {
+
+    private static final Pattern ISBN_TEXT = Pattern.compile("ISBN\\s*[:=]\\s*(\\d{13})", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ISBN_JSON = Pattern.compile("\"isbn13\"\\s*[:=]\\s*\"(\\d{13})\"", Pattern.CASE_INSENSITIVE);
+
+    private Yes24BestsellerParser() {
+    }
+
+    // 베스트셀러 목록 HTML 스트림 파싱
+    public static List<BestsellerItemDTO> parse(InputStream in, String baseUri) throws IOException {
+        return parseList(Jsoup.parse(in, null, baseUri));
+    }
+
+    public static List<BestsellerItemDTO> parseList(Document doc) {
+        Elements items = doc.select("#yesBestList li, .cCont_list li, .bestSellerList li, .itemUnit");
+        if (items.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<BestsellerItemDTO> results = new ArrayList<>();
+        Set<String> seenTitles = new HashSet<>();
+        for (Element item : items) {
+            if (results.size() >= TOP_N) break;
+
+            String title = textOf(item.selectFirst("a.gd_name"));
+            if (title.isBlank()) {
+                title = textOf(item.selectFirst(".gd_name, .goods_name, .goods_name a, .item_tit a"));
+            }
+            if (title.isBlank() || !seenTitles.add(title)) continue;
+
+            String author = textOf(item.selectFirst(".info_auth, .auth, .pubGrp .auth"));
+            String publisher = textOf(item.selectFirst(".info_pub, .pub, .pubGrp .pub"));
+
+            Element coverEl = item.selectFirst(".gd_img img, .goodsImgW img, .imgBdr img, img");
+            String cover = attrOf(coverEl, "data-original");
+            if (cover.isBlank()) {
+                cover = attrOf(coverEl, "data-src");
+            }
+            if (cover.isBlank()) {
+                cover = attrOf(coverEl, "src");
+            }
+            cover = normalizeUrl(cover);
+
+            String link = normalizeUrl(attrOf(item.selectFirst("a.gd_name, .gd_name a, .goods_name a, .item_tit a"), "href"));
+
+            results.add(new BestsellerItemDTO(title, author, publisher, "", cover, link));
+        }
+        return results;
+    }
+
+    // 상품 상세 페이지 ISBN (meta 태그 → 본문 텍스트 순, 없으면 "")
+    public static String parseDetailIsbn(Document doc) {
+        String isbn = attrOf(doc.selectFirst("meta[property=books:isbn]"), "content");
+        if (isbn.isBlank()) {
+            isbn = attrOf(doc.selectFirst("meta[name=isbn]"), "content");
+        }
+        if (isbn.isBlank()) {
+            isbn = attrOf(doc.selectFirst("meta[property=og:barcode]"), "content");
+        }
+        if (isbn.isBlank()) {
+            isbn = extractIsbnFromHtml(doc.html());
+        }
+        return isbn.replaceAll("[^0-9Xx]", "");
+    }
+
+    private static String extractIsbnFromHtml(String html) {
+        if (html == null) return "";
+        Matcher matcher = ISBN_TEXT.matcher(html);
+        if (matcher.find()) {
+            return matcher.group(1);
+        }
+        matcher = ISBN_JSON.matcher(html);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+}
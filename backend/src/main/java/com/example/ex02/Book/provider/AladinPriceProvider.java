@@ -1,9 +1,12 @@
 package com.example.ex02.Book.provider;
 
 import com.example.ex02.Book.dto.BookPriceDTO;
-import org.jsoup.Jsoup;
+import com.example.ex02.Book.external.ScrapeHttpClient;
+import com.example.ex02.Book.parser.PriceSearchParser;
+import com.example.ex02.common.CallNotPermittedException;
+import com.example.ex02.common.CircuitBreaker;
+import com.example.ex02.common.CircuitBreakerRegistry;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
@@ -13,8 +16,21 @@ import java.nio.charset.StandardCharsets;
 @Component
 public class AladinPriceProvider implements BookPriceProvider {
 
+    private final ScrapeHttpClient scrapeHttpClient;
+    private final CircuitBreaker breaker;
+
+    public AladinPriceProvider(ScrapeHttpClient scrapeHttpClient, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.scrapeHttpClient = scrapeHttpClient;
+        this.breaker = circuitBreakerRegistry.get("aladin");
+    }
+
+    @Override
+    public String getName() {
+        return "ALADIN";
+    }
+
     @Override
-    // ISBN/제목 검색으로 가격 조회
+    // ISBN/제목 검색으로 가격 조회 (서킷이 열려 있으면 CallNotPermittedException, 조회 실패는 PriceLookupException)
     public BookPriceDTO getPrice(String isbn, String title) {
 
         BookPriceDTO result = fetchByQuery(isbn);
@@ -24,7 +40,7 @@ public class AladinPriceProvider implements BookPriceProvider {
         return result;
     }
 
-    // 알라딘 검색 페이지 파싱
+    // 알라딘 검색 페이지 조회 (파싱은 PriceSearchParser)
     private BookPriceDTO fetchByQuery(String query) {
         if (query == null || query.isBlank()) {
             return null;
@@ -36,38 +52,18 @@ public class AladinPriceProvider implements BookPriceProvider {
                             "?SearchTarget=Book&SearchWord=" +
                             URLEncoder.encode(query, StandardCharsets.UTF_8);
 
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0")
-                    .timeout(5000)
-                    .get();
-
-            Element priceEl = doc.selectFirst(".ss_book_list .ss_p2 em, .ss_book_list .ss_p2 b");
-            Element linkEl  = doc.selectFirst(".ss_book_list .bo3");
-
-            if (priceEl == null || linkEl == null) {
-                return null;
-            }
-
-            String priceText = priceEl.text().replaceAll("[^0-9]", "");
-            if (priceText.isBlank()) {
-                return null;
-            }
-
-            int price = Integer.parseInt(
-                    priceText
-            );
-
-            String link = linkEl.absUrl("href");
-
-            return new BookPriceDTO(
-                    "ALADIN",
-                    price,
-                    link
-            );
+            Document doc = breaker.execute(() -> scrapeHttpClient.get(url, 5000));
+            return PriceSearchParser.parseAladin(doc);
 
+        } catch (CallNotPermittedException e) {
+            // 서킷 OPEN/동시 호출 초과는 '결과 없음'이 아닌 실패로 전달
+            throw e;
         } catch (Exception e) {
-            // 여기서 로그 찍어도 좋다
-            return null;
+            // 네트워크/HTTP/파싱 실패는 '결과 없음'이 아니므로 ERROR 로 집계되도록 전달
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new PriceLookupException(getName() + " lookup failed: " + e.getMessage(), e);
         }
     }
 }
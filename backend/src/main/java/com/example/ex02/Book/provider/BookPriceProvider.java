@@ -4,6 +4,9 @@ import com.example.ex02.Book.dto.BookPriceDTO;
 
 // 판매처 가격 조회 인터페이스
 public interface BookPriceProvider {
-    // ISBN/제목 기반 가격 조회
+    // 판매처 이름 (BookPriceDTO.provider 와 동일)
+    String getName();
+
+    // ISBN/제목 기반 가격 조회 - 찾지 못하면 null, 조회 자체가 실패하면 예외 (PriceLookupException 등)
     BookPriceDTO getPrice(String isbn, String title);
 }
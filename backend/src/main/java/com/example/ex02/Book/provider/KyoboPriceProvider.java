@@ -1,9 +1,12 @@
 package com.example.ex02.Book.provider;
 
 import com.example.ex02.Book.dto.BookPriceDTO;
-import org.jsoup.Jsoup;
+import com.example.ex02.Book.external.ScrapeHttpClient;
+import com.example.ex02.Book.parser.PriceSearchParser;
+import com.example.ex02.common.CallNotPermittedException;
+import com.example.ex02.common.CircuitBreaker;
+import com.example.ex02.common.CircuitBreakerRegistry;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
@@ -13,8 +16,21 @@ import java.nio.charset.StandardCharsets;
 @Component
 public class KyoboPriceProvider implements BookPriceProvider {
 
+    private final ScrapeHttpClient scrapeHttpClient;
+    private final CircuitBreaker breaker;
+
+    public KyoboPriceProvider(ScrapeHttpClient scrapeHttpClient, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.scrapeHttpClient = scrapeHttpClient;
+        this.breaker = circuitBreakerRegistry.get("kyobo");
+    }
+
+    @Override
+    public String getName() {
+        return "KYOBO";
+    }
+
     @Override
-    // ISBN/제목 검색으로 가격 조회
+    // ISBN/제목 검색으로 가격 조회 (서킷이 열려 있으면 CallNotPermittedException, 조회 실패는 PriceLookupException)
     public BookPriceDTO getPrice(String isbn, String title) {
 
         BookPriceDTO result = fetchByQuery(isbn);
@@ -24,7 +40,7 @@ public class KyoboPriceProvider implements BookPriceProvider {
         return result;
     }
 
-    // 교보 검색 페이지 파싱
+    // 교보 검색 페이지 조회 (파싱은 PriceSearchParser)
     private BookPriceDTO fetchByQuery(String query) {
         if (query == null || query.isBlank()) {
             return null;
@@ -35,38 +51,18 @@ public class KyoboPriceProvider implements BookPriceProvider {
                     "https://search.kyobobook.co.kr/search?keyword=" +
                             URLEncoder.encode(query, StandardCharsets.UTF_8);
 
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0")
-                    .timeout(5000)
-                    .get();
-
-            Element priceEl = doc.selectFirst(".prod_price .price .val, .prod_price .price .priceVal");
-            Element linkEl  = doc.selectFirst(".prod_name_group .prod_info");
-
-            if (priceEl == null || linkEl == null) {
-                return null;
-            }
-
-            String priceText = priceEl.text().replaceAll("[^0-9]", "");
-            if (priceText.isBlank()) {
-                return null;
-            }
-
-            int price = Integer.parseInt(
-                    priceText
-            );
-
-            String link = linkEl.absUrl("href");
-
-            return new BookPriceDTO(
-                    "KYOBO",
-                    price,
-                    link
-            );
+            Document doc = breaker.execute(() -> scrapeHttpClient.get(url, 5000));
+            return PriceSearchParser.parseKyobo(doc);
 
+        } catch (CallNotPermittedException e) {
+            // 서킷 OPEN/동시 호출 초과는 '결과 없음'이 아닌 실패로 전달
+            throw e;
         } catch (Exception e) {
-            // 필요하면 여기서 로그
-            return null;
+            // 네트워크/HTTP/파싱 실패는 '결과 없음'이 아니므로 ERROR 로 집계되도록 전달
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new PriceLookupException(getName() + " lookup failed: " + e.getMessage(), e);
         }
     }
 }
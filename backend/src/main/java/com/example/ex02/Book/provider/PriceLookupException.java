@@ -0,0 +1,11 @@
+package com.example.ex02.Book.provider;
+
+// 판매처 조회 자체가 실패한 경우 (네트워크/HTTP/파싱 오류) - '결과 없음'(null)과 구분해 ERROR 로 집계
+public class PriceLookupException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PriceLookupException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,9 +1,12 @@
 package com.example.ex02.Book.provider;
 
 import com.example.ex02.Book.dto.BookPriceDTO;
-import org.jsoup.Jsoup;
+import com.example.ex02.Book.external.ScrapeHttpClient;
+import com.example.ex02.Book.parser.PriceSearchParser;
+import com.example.ex02.common.CallNotPermittedException;
+import com.example.ex02.common.CircuitBreaker;
+import com.example.ex02.common.CircuitBreakerRegistry;
 import org.jsoup.nodes.Document;
-import org.jsoup.nodes.Element;
 import org.springframework.stereotype.Component;
 
 import java.net.URLEncoder;
@@ -13,8 +16,21 @@ import java.nio.charset.StandardCharsets;
 @Component
 public class Yes24PriceProvider implements BookPriceProvider {
 
+    private final ScrapeHttpClient scrapeHttpClient;
+    private final CircuitBreaker breaker;
+
+    public Yes24PriceProvider(ScrapeHttpClient scrapeHttpClient, CircuitBreakerRegistry circuitBreakerRegistry) {
+        this.scrapeHttpClient = scrapeHttpClient;
+        this.breaker = circuitBreakerRegistry.get("yes24");
+    }
+
+    @Override
+    public String getName() {
+        return "YES24";
+    }
+
     @Override
-    // ISBN/제목 검색으로 가격 조회
+    // ISBN/제목 검색으로 가격 조회 (서킷이 열려 있으면 CallNotPermittedException, 조회 실패는 PriceLookupException)
     public BookPriceDTO getPrice(String isbn, String title) {
         // ISBN으로 먼저 검색, 실패 시 title로 재검색
         BookPriceDTO result = fetchByQuery(isbn);
@@ -24,7 +40,7 @@ public class Yes24PriceProvider implements BookPriceProvider {
         return result;
     }
 
-    // YES24 검색 페이지 파싱
+    // YES24 검색 페이지 조회 (파싱은 PriceSearchParser)
     private BookPriceDTO fetchByQuery(String query) {
         if (query == null || query.isBlank()) {
             return null;
@@ -34,54 +50,18 @@ public class Yes24PriceProvider implements BookPriceProvider {
             String url = "https://www.yes24.com/Product/Search?domain=BOOK&query=" 
                     + URLEncoder.encode(query, StandardCharsets.UTF_8);
 
-            Document doc = Jsoup.connect(url)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36")
-                    .timeout(5000)
-                    .get();
-
-            // YES24 검색결과 페이지의 가격 셀렉터들 (여러 가지 시도)
-            Element priceEl = doc.selectFirst(".info_row.info_price .yes_b");
-            if (priceEl == null) {
-                priceEl = doc.selectFirst(".nor_price .yes_b");
-            }
-            if (priceEl == null) {
-                priceEl = doc.selectFirst(".price .yes_b");
-            }
-            if (priceEl == null) {
-                priceEl = doc.selectFirst(".s_price em");
-            }
-
-            // 상품 링크 셀렉터
-            Element linkEl = doc.selectFirst(".gd_name");
-            if (linkEl == null) {
-                linkEl = doc.selectFirst(".goods_name a");
-            }
-            if (linkEl == null) {
-                linkEl = doc.selectFirst("a.gd_name");
-            }
-
-            if (priceEl == null || linkEl == null) {
-                return null;
-            }
-
-            String priceText = priceEl.text().replaceAll("[^0-9]", "");
-            if (priceText.isBlank()) {
-                return null;
-            }
-
-            int price = Integer.parseInt(priceText);
-
-            String link = linkEl.absUrl("href");
-            if (link.isBlank()) {
-                link = "https://www.yes24.com" + linkEl.attr("href");
-            }
-
-            return new BookPriceDTO("YES24", price, link);
+            Document doc = breaker.execute(() -> scrapeHttpClient.get(url, 5000));
+            return PriceSearchParser.parseYes24(doc);
 
+        } catch (CallNotPermittedException e) {
+            // 서킷 OPEN/동시 호출 초과는 '결과 없음'이 아닌 실패로 전달
+            throw e;
         } catch (Exception e) {
-            // 디버깅용 로그 (필요시 활성화)
-            // e.printStackTrace();
-            return null;
+            // 네트워크/HTTP/파싱 실패는 '결과 없음'이 아니므로 ERROR 로 집계되도록 전달
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            throw new PriceLookupException(getName() + " lookup failed: " + e.getMessage(), e);
         }
     }
 }
@@ -0,0 +1,39 @@
+package com.example.ex02.Book.repository;
+
+import com.example.ex02.Book.entity.AiSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface AiSummaryRepository extends JpaRepository<AiSummaryEntity, Long> {
+
+    // (book_id, prompt_hash) 유니크 인덱스 조회, 요약 본문만
+    @Query("SELECT s.summary FROM AiSummaryEntity s WHERE s.book.bookId = :bookId AND s.promptHash = :promptHash")
+    Optional<String> findSummary(@Param("bookId") Long bookId, @Param("promptHash") String promptHash);
+
+    // 동시에 생성된 요약이 유니크 인덱스에 걸리지 않도록 있으면 덮어씀 (MySQL)
+    @Modifying
+    @Query(value = """
+        INSERT INTO ai_summary (book_id, prompt_hash, model, summary, created_at)
+        VALUES (:bookId, :promptHash, :model, :summary, :createdAt)
+        ON DUPLICATE KEY UPDATE model = VALUES(model), summary = VALUES(summary), created_at = VALUES(created_at)
+    """, nativeQuery = true)
+    int upsert(@Param("bookId") Long bookId, @Param("promptHash") String promptHash, @Param("model") String model,
+               @Param("summary") String summary, @Param("createdAt") LocalDateTime createdAt);
+
+    // 도서 정보가 바뀌면 기존 요약 전부 삭제
+    @Modifying
+    @Query("DELETE FROM AiSummaryEntity s WHERE s.book.bookId = :bookId")
+    int deleteByBookId(@Param("bookId") Long bookId);
+
+    // 템플릿/모델이 바뀌기 전 요약 정리
+    @Modifying
+    @Query("DELETE FROM AiSummaryEntity s WHERE s.book.bookId = :bookId AND s.promptHash <> :promptHash")
+    int deleteOutdated(@Param("bookId") Long bookId, @Param("promptHash") String promptHash);
+}
@@ -0,0 +1,22 @@
+package com.example.ex02.Book.repository;
+
+import com.example.ex02.Book.entity.BestsellerSnapshotEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BestsellerSnapshotRepository extends JpaRepository<BestsellerSnapshotEntity, Long> {
+
+    // 전체 저장본 (출처, 순위 순)
+    List<BestsellerSnapshotEntity> findAllByOrderBySourceAscRankNoAsc();
+
+    // 출처 목록 교체 전 기존 행 삭제
+    @Modifying
+    @Query("DELETE FROM BestsellerSnapshotEntity s WHERE s.source = :source")
+    int deleteBySource(@Param("source") String source);
+}
@@ -0,0 +1,51 @@
+package com.example.ex02.Book.repository;
+
+import com.example.ex02.Book.entity.BookPriceHistoryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BookPriceHistoryRepository extends JpaRepository<BookPriceHistoryEntity, Long> {
+
+    // 도서의 가장 최근 스냅샷 (provider, price, link, status, fetchedAt)
+    @Query("""
+        SELECT h.provider, h.price, h.link, h.status, h.fetchedAt
+        FROM BookPriceHistoryEntity h
+        WHERE h.book.bookId = :bookId
+          AND h.fetchedAt = (
+              SELECT MAX(h2.fetchedAt) FROM BookPriceHistoryEntity h2
+              WHERE h2.book.bookId = :bookId
+          )
+    """)
+    List<Object[]> findLatestSnapshot(@Param("bookId") Long bookId);
+
+    // 기간 내 가격 이력 (provider, price, status, fetchedAt) - 시간순
+    @Query("""
+        SELECT h.provider, h.price, h.status, h.fetchedAt
+        FROM BookPriceHistoryEntity h
+        WHERE h.book.bookId = :bookId AND h.fetchedAt >= :since
+        ORDER BY h.fetchedAt ASC, h.provider ASC
+    """)
+    List<Object[]> findHistorySince(@Param("bookId") Long bookId, @Param("since") LocalDateTime since);
+
+    // 북마크된 도서 수 (중복 제거)
+    @Query(value = "SELECT COUNT(DISTINCT book_id) FROM bookmark", nativeQuery = true)
+    long countBookmarkedBooks();
+
+    // since 이후 스냅샷이 없는 북마크 도서 ID (오래된 것부터 갱신하도록 book_id 순)
+    @Query(value = """
+        SELECT DISTINCT b.book_id FROM bookmark b
+        WHERE NOT EXISTS (
+            SELECT 1 FROM book_price_history h
+            WHERE h.book_id = b.book_id AND h.fetched_at >= :since
+        )
+        ORDER BY b.book_id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findBookmarkedBookIdsNotPricedSince(@Param("since") LocalDateTime since, @Param("limit") int limit);
+}
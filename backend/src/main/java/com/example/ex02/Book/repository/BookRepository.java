@@ -1,23 +1,20 @@
 package com.example.ex02.Book.repository;
 
+import com.example.ex02.Book.dto.BookListItemDTO;
 import com.example.ex02.Book.entity.BookEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 // 도서 조회 리포지토리
 public interface BookRepository extends JpaRepository<BookEntity, Long> {
-    List<BookEntity> findByTitleContainingIgnoreCaseOrIsbnContainingOrAuthorContainingIgnoreCaseOrPublisherContainingIgnoreCase(
-            String title,
-            String isbn,
-            String author,
-            String publisher
-    );
-
     // DB 레벨에서 LIMIT 50 적용 (성능 최적화)
     @Query(value = """
         SELECT * FROM book b
@@ -25,10 +22,54 @@ public interface BookRepository extends JpaRepository<BookEntity, Long> {
            OR LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%'))
            OR LOWER(b.publisher) LIKE LOWER(CONCAT('%', :keyword, '%'))
            OR b.isbn LIKE CONCAT('%', :keyword, '%')
+           OR b.isbn13 = :isbn13
         ORDER BY b.book_id DESC
         LIMIT 50
     """, nativeQuery = true)
-    List<BookEntity> findByKeywordLimited(@Param("keyword") String keyword);
+    List<BookEntity> findByKeywordLimited(@Param("keyword") String keyword, @Param("isbn13") String isbn13);
+
+    // 검색 인덱스 구성 전 키셋 페이지 검색 (book_id < cursor)
+    @Query(value = """
+        SELECT b.book_id FROM book b
+        WHERE b.book_id < :cursor
+          AND (LOWER(b.title) LIKE LOWER(CONCAT('%', :keyword, '%'))
+           OR LOWER(b.author) LIKE LOWER(CONCAT('%', :keyword, '%'))
+           OR LOWER(b.publisher) LIKE LOWER(CONCAT('%', :keyword, '%'))
+           OR b.isbn LIKE CONCAT('%', :keyword, '%'))
+        ORDER BY b.book_id DESC
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Long> findIdsByKeywordBefore(
+            @Param("keyword") String keyword,
+            @Param("cursor") long cursor,
+            @Param("limit") int limit
+    );
+
+    // 도서관 검색 응답용 필드만 조회 (bookId, title, author, publisher, isbn, isbn13, imageUrl)
+    @Query("""
+        SELECT b.bookId, b.title, b.author, b.publisher, b.isbn, b.isbn13, b.imageUrl
+        FROM BookEntity b
+        WHERE b.bookId IN :ids
+        """)
+    List<Object[]> findLibraryDocsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 목록용 경량 조회 (summary 제외) - book_id 키셋 페이지네이션
+    @Query("""
+        SELECT new com.example.ex02.Book.dto.BookListItemDTO(
+            b.bookId, b.isbn, b.title, b.author, b.publisher, b.publishedDate, b.imageUrl, b.ages)
+        FROM BookEntity b
+        WHERE b.bookId < :cursor
+        ORDER BY b.bookId DESC
+    """)
+    List<BookListItemDTO> findListItemsBefore(@Param("cursor") long cursor, Pageable pageable);
+
+    @Query("""
+        SELECT new com.example.ex02.Book.dto.BookListItemDTO(
+            b.bookId, b.isbn, b.title, b.author, b.publisher, b.publishedDate, b.imageUrl, b.ages)
+        FROM BookEntity b
+        WHERE b.bookId IN :ids
+    """)
+    List<BookListItemDTO> findListItemsByIdIn(@Param("ids") Collection<Long> ids);
 
     @Query("""
         SELECT b FROM BookEntity b
@@ -39,11 +80,23 @@ public interface BookRepository extends JpaRepository<BookEntity, Long> {
     """)
     List<BookEntity> findByNormalizedKeyword(@Param("normalized") String normalized);
 
-    @Query("""
-        SELECT count(b) > 0 FROM BookEntity b
-        WHERE lower(function('replace', function('replace', b.isbn, '-', ''), ' ', '')) =
-              lower(function('replace', function('replace', :isbn, '-', ''), ' ', ''))
-    """)
-    boolean existsByIsbnNormalized(@Param("isbn") String isbn);
+    // 정규화된 ISBN-13 유니크 인덱스 조회
+    boolean existsByIsbn13(String isbn13);
+
+    Optional<BookEntity> findByIsbn13(String isbn13);
+
+    List<BookEntity> findByIsbn13In(Collection<String> isbn13s);
+
+    // 일괄 적재 전 존재 여부를 IN 조회 한 번으로 확인
+    @Query("SELECT b.isbn13 FROM BookEntity b WHERE b.isbn13 IN :isbn13s")
+    List<String> findExistingIsbn13(@Param("isbn13s") Collection<String> isbn13s);
+
+    // ISBN-13 → book_id 일괄 조회 (베스트셀러 통합 목록용, [isbn13, bookId])
+    @Query("SELECT b.isbn13, b.bookId FROM BookEntity b WHERE b.isbn13 IN :isbn13s")
+    List<Object[]> findBookIdsByIsbn13In(@Param("isbn13s") Collection<String> isbn13s);
+
+    // 검색 인덱스 적재용 (summary 컬럼 제외)
+    @Query("SELECT b.bookId, b.title, b.author, b.publisher, b.isbn FROM BookEntity b ORDER BY b.bookId")
+    List<Object[]> findAllForSearchIndex();
 }
 
@@ -0,0 +1,104 @@
+package com.example.ex02.Book.search;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.ToIntFunction;
+
+// 질의 1건에 대한 BM25 점수 계산기 (bigram 을 term 으로, 제목/저자/출판사 필드 가중치 + 정확 일치 가산점)
+final class Bm25Scorer {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double AUTHOR_WEIGHT = 1.5;
+    private static final double PUBLISHER_WEIGHT = 0.5;
+
+    private static final double EXACT_TITLE_BOOST = 10.0;
+    private static final double TITLE_PREFIX_BOOST = 3.0;
+    private static final double EXACT_ISBN_BOOST = 20.0;
+    private static final double PARTIAL_ISBN_BOOST = 5.0;
+    private static final int MIN_PARTIAL_ISBN_LENGTH = 5;
+
+    private final String query;
+    private final String isbnQuery;
+    private final List<String> terms = new ArrayList<>();
+    private final double[] idf;
+    private final double avgTitleLength;
+    private final double avgAuthorLength;
+    private final double avgPublisherLength;
+
+    Bm25Scorer(String query, List<String> tokens, int docCount,
+               double avgTitleLength, double avgAuthorLength, double avgPublisherLength,
+               ToIntFunction<String> documentFrequency) {
+        this.query = query;
+        String digits = query.replace("-", "").replace(" ", "");
+        this.isbnQuery = digits.chars().allMatch(Character::isDigit) ? digits : null;
+        this.avgTitleLength = Math.max(1.0, avgTitleLength);
+        this.avgAuthorLength = Math.max(1.0, avgAuthorLength);
+        this.avgPublisherLength = Math.max(1.0, avgPublisherLength);
+
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            // 한 글자 토큰은 후보 필터로만 쓰고 점수에는 넣지 않음
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                grams.add(token.substring(i, i + 2));
+            }
+        }
+        terms.addAll(grams);
+
+        idf = new double[terms.size()];
+        for (int i = 0; i < terms.size(); i++) {
+            int df = documentFrequency.applyAsInt(terms.get(i));
+            idf[i] = Math.log(1.0 + (docCount - df + 0.5) / (df + 0.5));
+        }
+    }
+
+    double score(IndexedBook book) {
+        double score = 0.0;
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            score += idf[i] * (TITLE_WEIGHT * fieldScore(book.getTitle(), term, avgTitleLength)
+                    + AUTHOR_WEIGHT * fieldScore(book.getAuthor(), term, avgAuthorLength)
+                    + PUBLISHER_WEIGHT * fieldScore(book.getPublisher(), term, avgPublisherLength));
+        }
+
+        String title = book.getTitle();
+        if (title.equals(query)) {
+            score += EXACT_TITLE_BOOST;
+        } else if (title.startsWith(query)) {
+            score += TITLE_PREFIX_BOOST;
+        }
+
+        if (isbnQuery != null && !book.getIsbn().isEmpty()) {
+            String isbn = book.getIsbn().replace("-", "");
+            if (isbn.equals(isbnQuery)) {
+                score += EXACT_ISBN_BOOST;
+            } else if (isbnQuery.length() >= MIN_PARTIAL_ISBN_LENGTH && isbn.contains(isbnQuery)) {
+                score += PARTIAL_ISBN_BOOST;
+            }
+        }
+        return score;
+    }
+
+    private double fieldScore(String field, String term, double avgLength) {
+        int tf = countOccurrences(field, term);
+        if (tf == 0) {
+            return 0.0;
+        }
+        double norm = K1 * (1.0 - B + B * field.length() / avgLength);
+        return tf * (K1 + 1.0) / (tf + norm);
+    }
+
+    private static int countOccurrences(String field, String term) {
+        int count = 0;
+        int from = 0;
+        while ((from = field.indexOf(term, from)) >= 0) {
+            count++;
+            from++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ex02.Book.search;
+
+import com.example.ex02.Book.entity.BookEntity;
+import com.example.ex02.Book.repository.BookRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 도서 카탈로그를 한 번 읽어 모든 BookIndex 에 적재하고, 이후 변경분을 전달
+@Component
+public class BookCatalogIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookCatalogIndexer.class);
+
+    private final BookRepository bookRepository;
+    private final List<BookIndex> indexes;
+
+    public BookCatalogIndexer(BookRepository bookRepository, List<BookIndex> indexes) {
+        this.bookRepository = bookRepository;
+        this.indexes = indexes;
+    }
+
+    // 기동 완료 후 전체 카탈로그로 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildAll() {
+        long started = System.currentTimeMillis();
+        List<Object[]> rows = bookRepository.findAllForSearchIndex();
+        List<IndexedBook> catalog = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            catalog.add(new IndexedBook(
+                    ((Number) row[0]).longValue(),
+                    (String) row[1],
+                    (String) row[2],
+                    (String) row[3],
+                    (String) row[4]));
+        }
+
+        for (BookIndex index : indexes) {
+            index.rebuild(catalog);
+        }
+        logger.info("Book catalog indexed: {} books, {} indexes in {}ms",
+                catalog.size(), indexes.size(), System.currentTimeMillis() - started);
+    }
+
+    // 도서 추가/수정 반영 (트랜잭션 안이면 커밋 후에 반영)
+    public void index(BookEntity book) {
+        if (book == null || book.getBookId() == null) {
+            return;
+        }
+        IndexedBook indexed = new IndexedBook(
+                book.getBookId(), book.getTitle(), book.getAuthor(), book.getPublisher(), book.getIsbn());
+        afterCommit(() -> {
+            for (BookIndex index : indexes) {
+                index.upsert(indexed);
+            }
+        });
+    }
+
+    // 도서 삭제 반영 (트랜잭션 안이면 커밋 후에 반영)
+    public void remove(Long bookId) {
+        if (bookId == null) {
+            return;
+        }
+        afterCommit(() -> {
+            for (BookIndex index : indexes) {
+                index.remove(bookId);
+            }
+        });
+    }
+
+    // 롤백되면 인덱스에 없는 도서가 남거나 있는 도서가 빠지므로 커밋이 확정된 뒤에만 적용
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            change.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                change.run();
+            }
+        });
+    }
+}
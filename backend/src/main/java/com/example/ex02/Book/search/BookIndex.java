@@ -0,0 +1,16 @@
+package com.example.ex02.Book.search;
+
+import java.util.List;
+
+// 도서 카탈로그 기반 메모리 인덱스 (BookCatalogIndexer 가 적재/동기화)
+public interface BookIndex {
+
+    // 전체 재구성
+    void rebuild(List<IndexedBook> books);
+
+    // 도서 추가/수정 반영
+    void upsert(IndexedBook book);
+
+    // 도서 삭제 반영
+    void remove(long bookId);
+}
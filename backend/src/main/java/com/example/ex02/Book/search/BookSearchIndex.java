@@ -0,0 +1,229 @@
+package com.example.ex02.Book.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// 제목/저자/출판사/ISBN 문자 bigram·trigram 역색인 (LIKE '%kw%' 전체 스캔 대체)
+@Component
+public class BookSearchIndex implements BookIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSearchIndex.class);
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, IndexedBook> books = new HashMap<>();
+    private NgramPostings postings = new NgramPostings(MIN_GRAM, MAX_GRAM);
+    private FieldLengths lengths = new FieldLengths();
+    private volatile boolean ready;
+
+    @Override
+    public void rebuild(List<IndexedBook> catalog) {
+        Map<Long, IndexedBook> nextBooks = new HashMap<>(catalog.size() * 2);
+        NgramPostings nextPostings = new NgramPostings(MIN_GRAM, MAX_GRAM);
+        FieldLengths nextLengths = new FieldLengths();
+        for (IndexedBook book : catalog) {
+            nextBooks.put(book.getBookId(), book);
+            nextPostings.add(book.getBookId(), fieldsOf(book));
+            nextLengths.add(book, 1);
+        }
+
+        lock.writeLock().lock();
+        try {
+            books = nextBooks;
+            postings = nextPostings;
+            lengths = nextLengths;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Book search index built: {} books, {} grams", nextBooks.size(), nextPostings.gramCount());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public void upsert(IndexedBook book) {
+        lock.writeLock().lock();
+        try {
+            IndexedBook previous = books.put(book.getBookId(), book);
+            if (previous != null) {
+                postings.remove(previous.getBookId(), fieldsOf(previous));
+                lengths.add(previous, -1);
+            }
+            postings.add(book.getBookId(), fieldsOf(book));
+            lengths.add(book, 1);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long bookId) {
+        lock.writeLock().lock();
+        try {
+            IndexedBook previous = books.remove(bookId);
+            if (previous != null) {
+                postings.remove(bookId, fieldsOf(previous));
+                lengths.add(previous, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 키워드를 포함하는 도서 ID를 book_id 내림차순으로 최대 limit개 반환
+    public List<Long> search(String keyword, int limit) {
+        return search(keyword, Long.MAX_VALUE, limit);
+    }
+
+    // beforeId 미만의 book_id 중에서 검색 (키셋 페이지네이션용)
+    public List<Long> search(String keyword, long beforeId, int limit) {
+        String normalized = IndexedBook.normalize(keyword == null ? "" : keyword.trim());
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            // gram 보다 짧은 검색어는 포스팅이 없으므로 전체 스캔 (LIKE 와 같은 결과)
+            if (normalized.length() < MIN_GRAM) {
+                return scanNewest(beforeId, limit, book -> book.contains(normalized));
+            }
+            return postings.collect(normalized, beforeId, limit, bookId -> {
+                IndexedBook book = books.get(bookId);
+                return book != null && book.contains(normalized);
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 포스팅으로 찾을 수 있는 검색어인지 (토큰 중 하나라도 gram 길이 이상)
+    public boolean isIndexable(String keyword) {
+        return !indexableTokens(tokensOf(IndexedBook.normalize(keyword == null ? "" : keyword.trim()))).isEmpty();
+    }
+
+    // 공백으로 나눈 토큰을 모두 포함하는 도서를 BM25 점수순으로 최대 limit개 반환
+    public List<Long> searchRanked(String keyword, int limit) {
+        String normalized = IndexedBook.normalize(keyword == null ? "" : keyword.trim());
+        List<String> tokens = tokensOf(normalized);
+        if (tokens.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        List<String> indexable = indexableTokens(tokens);
+
+        lock.readLock().lock();
+        try {
+            // 모든 토큰의 gram 교집합 전체를 후보로 점수 계산 (book_id 순 상한으로 자르지 않음)
+            List<Long> candidates = indexable.isEmpty()
+                    ? scanNewest(Long.MAX_VALUE, Integer.MAX_VALUE, book -> book.containsAll(tokens))
+                    : postings.collect(indexable, Long.MAX_VALUE, Integer.MAX_VALUE, bookId -> {
+                        IndexedBook book = books.get(bookId);
+                        return book != null && book.containsAll(tokens);
+                    });
+            if (candidates.isEmpty()) {
+                return List.of();
+            }
+
+            int docCount = Math.max(1, books.size());
+            Bm25Scorer scorer = new Bm25Scorer(normalized, tokens, docCount,
+                    (double) lengths.title / docCount,
+                    (double) lengths.author / docCount,
+                    (double) lengths.publisher / docCount,
+                    postings::documentFrequency);
+
+            // 크기 limit 의 최소 힙으로 상위 k개만 유지 (전체 정렬 없음)
+            PriorityQueue<ScoredBook> heap = new PriorityQueue<>(limit + 1, SCORE_ORDER);
+            for (long bookId : candidates) {
+                heap.offer(new ScoredBook(bookId, scorer.score(books.get(bookId))));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            Long[] ranked = new Long[heap.size()];
+            for (int i = ranked.length - 1; i >= 0; i--) {
+                ranked[i] = heap.poll().bookId;
+            }
+            return Arrays.asList(ranked);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 전체 도서를 훑어 조건에 맞는 beforeId 미만 ID 를 내림차순으로 최대 limit개 (읽기 잠금 안에서 호출)
+    private List<Long> scanNewest(long beforeId, int limit, Predicate<IndexedBook> matcher) {
+        PriorityQueue<Long> newest = new PriorityQueue<>();
+        for (IndexedBook book : books.values()) {
+            if (book.getBookId() >= beforeId || !matcher.test(book)) continue;
+            newest.offer(book.getBookId());
+            if (newest.size() > limit) {
+                newest.poll();
+            }
+        }
+        List<Long> results = new ArrayList<>(newest);
+        results.sort(Comparator.reverseOrder());
+        return results;
+    }
+
+    private static List<String> tokensOf(String normalized) {
+        return Arrays.stream(normalized.split("\\s+"))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private static List<String> indexableTokens(List<String> tokens) {
+        return tokens.stream()
+                .filter(token -> token.length() >= MIN_GRAM)
+                .collect(Collectors.toList());
+    }
+
+    private String[] fieldsOf(IndexedBook book) {
+        return new String[] {book.getTitle(), book.getAuthor(), book.getPublisher(), book.getIsbn()};
+    }
+
+    // 점수 오름차순(동점이면 오래된 book_id 먼저) - 힙에서 가장 먼저 버려질 순서
+    private static final Comparator<ScoredBook> SCORE_ORDER = Comparator
+            .comparingDouble((ScoredBook scored) -> scored.score)
+            .thenComparingLong(scored -> scored.bookId);
+
+    private static final class ScoredBook {
+        private final long bookId;
+        private final double score;
+
+        private ScoredBook(long bookId, double score) {
+            this.bookId = bookId;
+            this.score = score;
+        }
+    }
+
+    // BM25 평균 필드 길이 계산용 누적 길이
+    private static final class FieldLengths {
+        private long title;
+        private long author;
+        private long publisher;
+
+        private void add(IndexedBook book, int sign) {
+            title += sign * book.getTitle().length();
+            author += sign * book.getAuthor().length();
+            publisher += sign * book.getPublisher().length();
+        }
+    }
+}
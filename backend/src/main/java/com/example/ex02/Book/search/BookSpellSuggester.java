@@ -0,0 +1,140 @@
+package com.example.ex02.Book.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 검색 결과가 없을 때 "이것을 찾으셨나요?" 교정어 제안 (도서 제목/저자 + 인기 검색어 사전)
+@Component
+public class BookSpellSuggester implements BookIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSpellSuggester.class);
+    private static final int MAX_EDIT_DISTANCE = 2;
+    private static final int PREFIX_LENGTH = 7;
+    private static final int MIN_WORD_LENGTH = 2;
+    // 제목 전체도 한 단어로 넣되, 긴 제목은 통째로 오타를 낼 일이 없으므로 제외
+    private static final int MAX_PHRASE_LENGTH = 20;
+    // 인기 검색어는 사용자가 실제로 찾는 표현이므로 카탈로그 단어보다 가중치를 높게
+    private static final long KEYWORD_WEIGHT = 10;
+
+    private final Map<Long, IndexedBook> books = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+
+    private volatile Map<String, Long> keywords = Map.of();
+    private volatile SymSpellDictionary dictionary = SymSpellDictionary.EMPTY;
+
+    @Override
+    public void rebuild(List<IndexedBook> catalog) {
+        books.clear();
+        for (IndexedBook book : catalog) {
+            books.put(book.getBookId(), book);
+        }
+        // 사전 생성은 기동 경로가 아닌 스케줄러 스레드에서
+        dirty.set(true);
+    }
+
+    @Override
+    public void upsert(IndexedBook book) {
+        books.put(book.getBookId(), book);
+        dirty.set(true);
+    }
+
+    @Override
+    public void remove(long bookId) {
+        if (books.remove(bookId) != null) {
+            dirty.set(true);
+        }
+    }
+
+    // 인기 검색어(검색 횟수 포함) 반영 - 바뀐 경우에만 재구성 예약
+    public void updateKeywords(Map<String, Long> keywordCounts) {
+        Map<String, Long> normalized = new HashMap<>();
+        keywordCounts.forEach((keyword, count) -> {
+            String key = IndexedBook.normalize(keyword == null ? "" : keyword.trim());
+            if (key.length() >= MIN_WORD_LENGTH) {
+                normalized.merge(key, count, Long::sum);
+            }
+        });
+        if (!normalized.equals(keywords)) {
+            keywords = Map.copyOf(normalized);
+            dirty.set(true);
+        }
+    }
+
+    // 카탈로그/검색어가 바뀌었으면 백그라운드에서 사전 재구성 후 교체
+    @Scheduled(fixedDelay = 60000, initialDelay = 10000)
+    public void rebuildIfDirty() {
+        if (dirty.compareAndSet(true, false)) {
+            rebuildDictionary();
+        }
+    }
+
+    // 교정 제안어 (토큰별로 교정, 바뀐 것이 없거나 교정 불가면 null)
+    public String suggest(String query) {
+        String normalized = IndexedBook.normalize(query == null ? "" : query.trim());
+        if (normalized.length() < MIN_WORD_LENGTH) {
+            return null;
+        }
+        SymSpellDictionary current = dictionary;
+
+        // 질의 전체가 제목/검색어와 가까우면 그것을 우선
+        String whole = current.lookup(normalized);
+        if (whole != null) {
+            return whole.equals(normalized) ? null : whole;
+        }
+
+        String[] tokens = normalized.split("\\s+");
+        if (tokens.length < 2) {
+            return null;
+        }
+        StringBuilder corrected = new StringBuilder();
+        boolean changed = false;
+        for (String token : tokens) {
+            if (token.isEmpty()) continue;
+            String replacement = token.length() >= MIN_WORD_LENGTH ? current.lookup(token) : token;
+            if (replacement == null) {
+                return null;
+            }
+            changed |= !replacement.equals(token);
+            if (corrected.length() > 0) corrected.append(' ');
+            corrected.append(replacement);
+        }
+        return changed ? corrected.toString() : null;
+    }
+
+    private void rebuildDictionary() {
+        long started = System.currentTimeMillis();
+        Map<String, Long> frequencies = new HashMap<>();
+        for (IndexedBook book : new ArrayList<>(books.values())) {
+            addWords(frequencies, book.getTitle(), 1);
+            addWords(frequencies, book.getAuthor(), 1);
+        }
+        keywords.forEach((keyword, count) -> frequencies.merge(keyword, count * KEYWORD_WEIGHT, Long::sum));
+
+        SymSpellDictionary next = new SymSpellDictionary(frequencies, MAX_EDIT_DISTANCE, PREFIX_LENGTH);
+        dictionary = next;
+        logger.info("Spelling dictionary built: {} words in {}ms", next.size(), System.currentTimeMillis() - started);
+    }
+
+    private void addWords(Map<String, Long> frequencies, String value, long weight) {
+        if (value.isEmpty()) {
+            return;
+        }
+        if (value.length() <= MAX_PHRASE_LENGTH && value.length() >= MIN_WORD_LENGTH) {
+            frequencies.merge(value, weight, Long::sum);
+        }
+        for (String token : value.split("\\s+")) {
+            if (token.length() >= MIN_WORD_LENGTH) {
+                frequencies.merge(token, weight, Long::sum);
+            }
+        }
+    }
+}
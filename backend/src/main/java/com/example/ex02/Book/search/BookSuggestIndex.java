@@ -0,0 +1,425 @@
+package com.example.ex02.Book.search;
+
+import com.example.ex02.Book.dto.BookSuggestionDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/저자 접두어 트라이 (노드마다 인기순 상위 K개 도서를 미리 계산해 두는 자동완성 인덱스)
+@Component
+public class BookSuggestIndex implements BookIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookSuggestIndex.class);
+    private static final int TOP_K = 10;
+    // 이 깊이까지만 상위 K개를 캐시 (더 깊은 노드는 하위 트리가 작으므로 조회 시 계산)
+    private static final int MAX_CACHED_DEPTH = 8;
+    // 너무 긴 접두어는 자동완성에 의미가 없으므로 잘라서 노드 수를 제한
+    private static final int MAX_TERM_LENGTH = 40;
+    // 제목 중간 단어로 시작하는 접미어는 앞쪽 몇 단어까지만 등록
+    private static final int MAX_TITLE_WORDS = 4;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // 아직 반영하지 않은 최신 인기도 (요청 스레드는 넣기만 하고 재구성은 스케줄러가 담당)
+    private final AtomicReference<Map<Long, Long>> pendingPopularity = new AtomicReference<>();
+
+    private Map<Long, IndexedBook> books = new HashMap<>();
+    private Trie trie = new Trie(Map.of());
+
+    @Override
+    public void rebuild(List<IndexedBook> catalog) {
+        Map<Long, IndexedBook> nextBooks = new HashMap<>(catalog.size() * 2);
+        for (IndexedBook book : catalog) {
+            nextBooks.put(book.getBookId(), book);
+        }
+
+        Map<Long, Long> popularity;
+        lock.readLock().lock();
+        try {
+            popularity = trie.popularity;
+        } finally {
+            lock.readLock().unlock();
+        }
+        Trie nextTrie = buildTrie(nextBooks, popularity);
+
+        lock.writeLock().lock();
+        try {
+            books = nextBooks;
+            trie = nextTrie;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Book suggest index built: {} books, {} nodes", nextBooks.size(), nextTrie.nodeCount);
+    }
+
+    // 도서별 인기도(액션 로그 건수) 반영 예약 - 트렌드 갱신(요청 스레드 포함)에서 호출되므로 저장만 함
+    public void updatePopularity(Map<Long, Long> popularity) {
+        pendingPopularity.set(Map.copyOf(popularity));
+    }
+
+    // 예약된 인기도가 있으면 백그라운드에서 트라이를 다시 만들어 교체
+    @Scheduled(fixedDelay = 60000, initialDelay = 10000)
+    public void rerankIfPending() {
+        Map<Long, Long> popularity = pendingPopularity.getAndSet(null);
+        if (popularity != null) {
+            rerank(popularity);
+        }
+    }
+
+    // 변경이 있을 때만 트라이 재구성
+    private void rerank(Map<Long, Long> popularity) {
+        Map<Long, IndexedBook> snapshot;
+        lock.readLock().lock();
+        try {
+            if (trie.popularity.equals(popularity)) {
+                return;
+            }
+            snapshot = new HashMap<>(books);
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Trie nextTrie = buildTrie(snapshot, popularity);
+
+        lock.writeLock().lock();
+        try {
+            // 재구성 중 들어온 도서 변경분을 다시 반영
+            for (IndexedBook book : books.values()) {
+                if (snapshot.get(book.getBookId()) != book) {
+                    IndexedBook stale = snapshot.get(book.getBookId());
+                    if (stale != null) {
+                        nextTrie.remove(stale);
+                    }
+                    nextTrie.insert(book);
+                }
+            }
+            for (IndexedBook stale : snapshot.values()) {
+                if (!books.containsKey(stale.getBookId())) {
+                    nextTrie.remove(stale);
+                }
+            }
+            trie = nextTrie;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Book suggest index re-ranked: {} popular books", popularity.size());
+    }
+
+    @Override
+    public void upsert(IndexedBook book) {
+        lock.writeLock().lock();
+        try {
+            IndexedBook previous = books.put(book.getBookId(), book);
+            if (previous != null) {
+                trie.remove(previous);
+            }
+            trie.insert(book);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long bookId) {
+        lock.writeLock().lock();
+        try {
+            IndexedBook previous = books.remove(bookId);
+            if (previous != null) {
+                trie.remove(previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 접두어로 시작하는 제목/저자(제목 중간 단어 포함)의 도서를 인기순으로 최대 limit개
+    public List<BookSuggestionDTO> suggest(String prefix, int limit) {
+        String normalized = IndexedBook.normalize(prefix == null ? "" : prefix.trim());
+        int size = Math.max(1, Math.min(limit, TOP_K));
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+        if (normalized.length() > MAX_TERM_LENGTH) {
+            normalized = normalized.substring(0, MAX_TERM_LENGTH);
+        }
+
+        lock.readLock().lock();
+        try {
+            long[] ids = trie.top(normalized, size);
+            List<BookSuggestionDTO> results = new ArrayList<>(ids.length);
+            for (long id : ids) {
+                IndexedBook book = books.get(id);
+                if (book != null) {
+                    results.add(new BookSuggestionDTO(id, book.getDisplayTitle(), book.getDisplayAuthor()));
+                }
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Trie buildTrie(Map<Long, IndexedBook> catalog, Map<Long, Long> popularity) {
+        Trie next = new Trie(popularity);
+        for (IndexedBook book : catalog.values()) {
+            next.insert(book);
+        }
+        return next;
+    }
+
+    // 도서 1권이 트라이에 등록되는 문자열 (제목, 제목 중간 단어부터의 접미어, 저자)
+    private static Set<String> termsOf(IndexedBook book) {
+        Set<String> terms = new LinkedHashSet<>();
+        addTerm(terms, book.getTitle());
+        addTerm(terms, book.getAuthor());
+
+        String title = book.getTitle();
+        int words = 1;
+        for (int i = 1; i < title.length() && words < MAX_TITLE_WORDS; i++) {
+            if (Character.isWhitespace(title.charAt(i - 1)) && !Character.isWhitespace(title.charAt(i))) {
+                addTerm(terms, title.substring(i));
+                words++;
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(Set<String> terms, String value) {
+        String term = value.trim();
+        if (term.isEmpty()) {
+            return;
+        }
+        terms.add(term.length() > MAX_TERM_LENGTH ? term.substring(0, MAX_TERM_LENGTH) : term);
+    }
+
+    // 자식은 정렬된 char[] + Node[] 로 보관 (HashMap 노드 대비 메모리 절약)
+    private static final class Node {
+        private static final char[] NO_LABELS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final long[] NO_IDS = new long[0];
+
+        private char[] labels = NO_LABELS;
+        private Node[] children = NO_CHILDREN;
+        // 이 노드에서 끝나는 문자열을 가진 도서
+        private long[] ends = NO_IDS;
+        // 하위 트리 전체의 인기순 상위 K개 (캐시 대상 깊이에서만 사용)
+        private long[] top;
+        private int topSize;
+
+        private Node child(char label) {
+            int pos = Arrays.binarySearch(labels, label);
+            return pos >= 0 ? children[pos] : null;
+        }
+
+        private Node addChild(char label) {
+            int pos = Arrays.binarySearch(labels, label);
+            if (pos >= 0) {
+                return children[pos];
+            }
+            int insertAt = -pos - 1;
+            char[] nextLabels = new char[labels.length + 1];
+            Node[] nextChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, nextLabels, 0, insertAt);
+            System.arraycopy(children, 0, nextChildren, 0, insertAt);
+            System.arraycopy(labels, insertAt, nextLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, nextChildren, insertAt + 1, children.length - insertAt);
+            Node created = new Node();
+            nextLabels[insertAt] = label;
+            nextChildren[insertAt] = created;
+            labels = nextLabels;
+            children = nextChildren;
+            return created;
+        }
+
+        private void removeChild(char label) {
+            int pos = Arrays.binarySearch(labels, label);
+            if (pos < 0) {
+                return;
+            }
+            char[] nextLabels = new char[labels.length - 1];
+            Node[] nextChildren = new Node[children.length - 1];
+            System.arraycopy(labels, 0, nextLabels, 0, pos);
+            System.arraycopy(children, 0, nextChildren, 0, pos);
+            System.arraycopy(labels, pos + 1, nextLabels, pos, labels.length - pos - 1);
+            System.arraycopy(children, pos + 1, nextChildren, pos, children.length - pos - 1);
+            labels = nextLabels;
+            children = nextChildren;
+        }
+
+        private boolean isEmpty() {
+            return labels.length == 0 && ends.length == 0;
+        }
+
+        private boolean topContains(long id) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static final class Trie {
+
+        private final Node root = new Node();
+        private final Map<Long, Long> popularity;
+        private int nodeCount = 1;
+
+        private Trie(Map<Long, Long> popularity) {
+            this.popularity = popularity;
+        }
+
+        private void insert(IndexedBook book) {
+            long id = book.getBookId();
+            for (String term : termsOf(book)) {
+                Node node = root;
+                for (int depth = 1; depth <= term.length(); depth++) {
+                    Node parent = node;
+                    int childCount = parent.labels.length;
+                    node = parent.addChild(term.charAt(depth - 1));
+                    if (parent.labels.length != childCount) {
+                        nodeCount++;
+                    }
+                    if (depth <= MAX_CACHED_DEPTH) {
+                        offer(node, id);
+                    }
+                }
+                if (indexOf(node.ends, id) < 0) {
+                    node.ends = Arrays.copyOf(node.ends, node.ends.length + 1);
+                    node.ends[node.ends.length - 1] = id;
+                }
+            }
+        }
+
+        private void remove(IndexedBook book) {
+            long id = book.getBookId();
+            for (String term : termsOf(book)) {
+                remove(root, term, 0, id);
+            }
+        }
+
+        // 하위 노드부터 정리하고, 캐시에 있던 도서가 빠진 노드는 자식 캐시로 상위 K개를 다시 계산
+        private void remove(Node node, String term, int depth, long id) {
+            if (depth == term.length()) {
+                int pos = indexOf(node.ends, id);
+                if (pos >= 0) {
+                    long[] next = new long[node.ends.length - 1];
+                    System.arraycopy(node.ends, 0, next, 0, pos);
+                    System.arraycopy(node.ends, pos + 1, next, pos, node.ends.length - pos - 1);
+                    node.ends = next;
+                }
+            } else {
+                char label = term.charAt(depth);
+                Node child = node.child(label);
+                if (child == null) {
+                    return;
+                }
+                remove(child, term, depth + 1, id);
+                if (child.isEmpty()) {
+                    node.removeChild(label);
+                    nodeCount--;
+                }
+            }
+            if (node.top != null && node.topContains(id)) {
+                recompute(node);
+            }
+        }
+
+        private long[] top(String prefix, int limit) {
+            Node node = root;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                node = node.child(prefix.charAt(i));
+            }
+            if (node == null) {
+                return new long[0];
+            }
+            if (node.top != null) {
+                return Arrays.copyOf(node.top, Math.min(limit, node.topSize));
+            }
+            Node collected = new Node();
+            collect(node, collected);
+            if (collected.top == null) {
+                return new long[0];
+            }
+            return Arrays.copyOf(collected.top, Math.min(limit, collected.topSize));
+        }
+
+        // 이 노드에서 끝나는 도서와 자식들의 상위 K개만 합침 (하위 트리 전체를 다시 훑지 않음)
+        // 자식은 remove 에서 먼저 다시 계산되므로 자식의 캐시는 항상 최신
+        private void recompute(Node node) {
+            node.top = null;
+            node.topSize = 0;
+            for (long id : node.ends) {
+                offer(node, id);
+            }
+            for (Node child : node.children) {
+                if (child.top == null) {
+                    // 캐시 깊이를 넘는 자식만 직접 모음 (하위 트리가 작음)
+                    collect(child, node);
+                    continue;
+                }
+                for (int i = 0; i < child.topSize; i++) {
+                    offer(node, child.top[i]);
+                }
+            }
+        }
+
+        // 하위 트리의 모든 도서를 target 의 상위 K개 목록에 넣어 봄
+        private void collect(Node node, Node target) {
+            for (long id : node.ends) {
+                offer(target, id);
+            }
+            for (Node child : node.children) {
+                collect(child, target);
+            }
+        }
+
+        // 인기도 내림차순(동률이면 최신 book_id 우선)으로 상위 K개 유지
+        private void offer(Node node, long id) {
+            if (node.top == null) {
+                node.top = new long[TOP_K];
+            }
+            if (node.topContains(id)) {
+                return;
+            }
+            if (node.topSize == TOP_K && !ranksHigher(id, node.top[TOP_K - 1])) {
+                return;
+            }
+            int pos = Math.min(node.topSize, TOP_K - 1);
+            while (pos > 0 && ranksHigher(id, node.top[pos - 1])) {
+                node.top[pos] = node.top[pos - 1];
+                pos--;
+            }
+            node.top[pos] = id;
+            if (node.topSize < TOP_K) {
+                node.topSize++;
+            }
+        }
+
+        private boolean ranksHigher(long a, long b) {
+            long scoreA = popularity.getOrDefault(a, 0L);
+            long scoreB = popularity.getOrDefault(b, 0L);
+            return scoreA != scoreB ? scoreA > scoreB : a > b;
+        }
+
+        private static int indexOf(long[] values, long id) {
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.ex02.Book.search;
+
+import com.example.ex02.Book.util.HangulJamo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 제목/저자 초성·자모 분해 키 인덱스 ("ㅎㄹㅍㅌ", "해리퐅" 같은 입력 검색용)
+@Component
+public class HangulSearchIndex implements BookIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(HangulSearchIndex.class);
+    private static final int MIN_CHOSUNG_LENGTH = 2;
+    private static final int MIN_JAMO_LENGTH = 3;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Long, Keys> keys = new HashMap<>();
+    private NgramPostings chosungPostings = new NgramPostings(MIN_CHOSUNG_LENGTH, 3);
+    private NgramPostings jamoPostings = new NgramPostings(MIN_JAMO_LENGTH, 3);
+
+    // 도서 1권의 분해 키 (제목/저자 각각)
+    private static final class Keys {
+        private final String titleChosung;
+        private final String authorChosung;
+        private final String titleJamo;
+        private final String authorJamo;
+
+        private Keys(IndexedBook book) {
+            this.titleChosung = HangulJamo.toChosung(book.getTitle());
+            this.authorChosung = HangulJamo.toChosung(book.getAuthor());
+            this.titleJamo = HangulJamo.toJamo(book.getTitle());
+            this.authorJamo = HangulJamo.toJamo(book.getAuthor());
+        }
+    }
+
+    @Override
+    public void rebuild(List<IndexedBook> catalog) {
+        Map<Long, Keys> nextKeys = new HashMap<>(catalog.size() * 2);
+        NgramPostings nextChosung = new NgramPostings(MIN_CHOSUNG_LENGTH, 3);
+        NgramPostings nextJamo = new NgramPostings(MIN_JAMO_LENGTH, 3);
+        for (IndexedBook book : catalog) {
+            Keys bookKeys = new Keys(book);
+            nextKeys.put(book.getBookId(), bookKeys);
+            nextChosung.add(book.getBookId(), bookKeys.titleChosung, bookKeys.authorChosung);
+            nextJamo.add(book.getBookId(), bookKeys.titleJamo, bookKeys.authorJamo);
+        }
+
+        lock.writeLock().lock();
+        try {
+            keys = nextKeys;
+            chosungPostings = nextChosung;
+            jamoPostings = nextJamo;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Hangul search index built: {} books, {} chosung grams, {} jamo grams",
+                nextKeys.size(), nextChosung.gramCount(), nextJamo.gramCount());
+    }
+
+    @Override
+    public void upsert(IndexedBook book) {
+        Keys bookKeys = new Keys(book);
+        lock.writeLock().lock();
+        try {
+            Keys previous = keys.put(book.getBookId(), bookKeys);
+            if (previous != null) {
+                removePostings(book.getBookId(), previous);
+            }
+            chosungPostings.add(book.getBookId(), bookKeys.titleChosung, bookKeys.authorChosung);
+            jamoPostings.add(book.getBookId(), bookKeys.titleJamo, bookKeys.authorJamo);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(long bookId) {
+        lock.writeLock().lock();
+        try {
+            Keys previous = keys.remove(bookId);
+            if (previous != null) {
+                removePostings(bookId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 초성만 입력했으면 초성 키, 아니면 자모 분해 키로 부분 일치 검색 (book_id 내림차순)
+    public List<Long> search(String keyword, int limit) {
+        String normalized = IndexedBook.normalize(keyword == null ? "" : keyword.trim());
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            if (HangulJamo.isChosungQuery(normalized)) {
+                String query = HangulJamo.toChosung(normalized);
+                return chosungPostings.collect(query, Long.MAX_VALUE, limit, bookId -> {
+                    Keys bookKeys = keys.get(bookId);
+                    return bookKeys != null
+                            && (bookKeys.titleChosung.contains(query) || bookKeys.authorChosung.contains(query));
+                });
+            }
+
+            String query = HangulJamo.toJamo(normalized);
+            return jamoPostings.collect(query, Long.MAX_VALUE, limit, bookId -> {
+                Keys bookKeys = keys.get(bookId);
+                return bookKeys != null
+                        && (bookKeys.titleJamo.contains(query) || bookKeys.authorJamo.contains(query));
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removePostings(long bookId, Keys previous) {
+        chosungPostings.remove(bookId, previous.titleChosung, previous.authorChosung);
+        jamoPostings.remove(bookId, previous.titleJamo, previous.authorJamo);
+    }
+}
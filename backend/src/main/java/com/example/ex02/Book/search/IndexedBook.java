@@ -0,0 +1,82 @@
+package com.example.ex02.Book.search;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Locale;
+
+// 검색 인덱스에 보관하는 도서 필드 (정규화된 소문자 문자열)
+public final class IndexedBook {
+
+    private final long bookId;
+    private final String title;
+    private final String author;
+    private final String publisher;
+    private final String isbn;
+    private final String displayTitle;
+    private final String displayAuthor;
+
+    IndexedBook(long bookId, String title, String author, String publisher, String isbn) {
+        this.bookId = bookId;
+        this.displayTitle = title == null ? "" : title.trim();
+        this.displayAuthor = author == null ? "" : author.trim();
+        this.title = normalize(title);
+        this.author = normalize(author);
+        this.publisher = normalize(publisher);
+        this.isbn = normalize(isbn);
+    }
+
+    long getBookId() {
+        return bookId;
+    }
+
+    String getTitle() {
+        return title;
+    }
+
+    String getAuthor() {
+        return author;
+    }
+
+    String getPublisher() {
+        return publisher;
+    }
+
+    String getIsbn() {
+        return isbn;
+    }
+
+    // 자동완성 응답용 원문 제목/저자
+    String getDisplayTitle() {
+        return displayTitle;
+    }
+
+    String getDisplayAuthor() {
+        return displayAuthor;
+    }
+
+    // LIKE '%keyword%' 와 동일한 부분 문자열 매칭
+    boolean contains(String normalizedKeyword) {
+        return title.contains(normalizedKeyword)
+                || author.contains(normalizedKeyword)
+                || publisher.contains(normalizedKeyword)
+                || isbn.contains(normalizedKeyword);
+    }
+
+    // 모든 토큰이 어느 필드에든 포함되는지 (공백 구분 AND 검색)
+    boolean containsAll(List<String> normalizedTokens) {
+        for (String token : normalizedTokens) {
+            if (!contains(token)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 한글 자모 분리 입력(NFD)도 완성형으로 합친 뒤 소문자화
+    static String normalize(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+}
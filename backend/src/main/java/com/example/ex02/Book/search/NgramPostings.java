@@ -0,0 +1,132 @@
+package com.example.ex02.Book.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+
+// 문자 n-gram -> 포스팅 리스트 (검색 인덱스 공통 구현, 동기화는 소유 인덱스가 담당)
+final class NgramPostings {
+
+    private final int minGram;
+    private final int maxGram;
+    private final Map<String, PostingList> postings = new HashMap<>();
+
+    NgramPostings(int minGram, int maxGram) {
+        this.minGram = minGram;
+        this.maxGram = maxGram;
+    }
+
+    void add(long id, String... values) {
+        for (String gram : gramsOf(values)) {
+            postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+        }
+    }
+
+    void remove(long id, String... values) {
+        for (String gram : gramsOf(values)) {
+            PostingList list = postings.get(gram);
+            if (list == null) continue;
+            list.remove(id);
+            if (list.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    int gramCount() {
+        return postings.size();
+    }
+
+    int minGram() {
+        return minGram;
+    }
+
+    // gram 을 포함하는 문서 수 (BM25 idf 용)
+    int documentFrequency(String gram) {
+        PostingList list = postings.get(gram);
+        return list == null ? 0 : list.size();
+    }
+
+    // 질의 gram 을 모두 가진 ID 중 verifier 를 통과한 것을 beforeId 미만에서 내림차순으로 최대 limit개
+    List<Long> collect(String query, long beforeId, int limit, LongPredicate verifier) {
+        if (query.length() < minGram || limit <= 0) {
+            return List.of();
+        }
+        return collectGrams(queryGrams(query), beforeId, limit, verifier);
+    }
+
+    // 여러 질의(토큰)의 gram 을 모두 가진 ID 교집합 - minGram 미만 질의는 gram 조건에서 빠지므로 verifier 로 확인
+    List<Long> collect(Collection<String> queries, long beforeId, int limit, LongPredicate verifier) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String query : queries) {
+            if (query.length() >= minGram) {
+                grams.addAll(queryGrams(query));
+            }
+        }
+        if (grams.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return collectGrams(grams, beforeId, limit, verifier);
+    }
+
+    private List<Long> collectGrams(Set<String> grams, long beforeId, int limit, LongPredicate verifier) {
+        List<PostingList> lists = new ArrayList<>();
+        for (String gram : grams) {
+            PostingList list = postings.get(gram);
+            if (list == null || list.isEmpty()) {
+                return List.of();
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(PostingList::size));
+
+        PostingList smallest = lists.get(0);
+        List<Long> results = new ArrayList<>(Math.min(limit, smallest.size()));
+        for (int i = smallest.lastIndexBefore(beforeId); i >= 0 && results.size() < limit; i--) {
+            long id = smallest.get(i);
+            if (containsInAll(lists, id) && verifier.test(id)) {
+                results.add(id);
+            }
+        }
+        return results;
+    }
+
+    private boolean containsInAll(List<PostingList> lists, long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 질의는 가능한 가장 긴 gram 으로 분해 (후보를 최대한 좁힘)
+    private Set<String> queryGrams(String query) {
+        int size = Math.min(maxGram, query.length());
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + size <= query.length(); i++) {
+            grams.add(query.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    // 값(필드)별로 gram 생성 (필드 경계를 넘는 gram 은 만들지 않음)
+    private Set<String> gramsOf(String... values) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String value : values) {
+            if (value == null) continue;
+            for (int size = minGram; size <= maxGram; size++) {
+                for (int i = 0; i + size <= value.length(); i++) {
+                    grams.add(value.substring(i, i + size));
+                }
+            }
+        }
+        return grams;
+    }
+}
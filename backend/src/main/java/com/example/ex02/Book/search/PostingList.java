@@ -0,0 +1,66 @@
+package com.example.ex02.Book.search;
+
+import java.util.Arrays;
+
+// n-gram 포스팅 리스트 (book_id 오름차순 정렬된 long 배열)
+final class PostingList {
+
+    private long[] ids = new long[4];
+    private int size;
+
+    // book_id 추가 (대부분 신규 ID라 뒤에 붙이는 경우가 많음)
+    void add(long id) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+        int insertAt = -pos - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    // book_id 제거
+    void remove(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    // id 보다 작은 마지막 원소의 위치 (없으면 -1)
+    int lastIndexBefore(long id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        return (pos >= 0 ? pos : -pos - 1) - 1;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+}
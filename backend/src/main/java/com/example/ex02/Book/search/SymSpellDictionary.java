@@ -0,0 +1,140 @@
+package com.example.ex02.Book.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 대칭 삭제(SymSpell) 철자 교정 사전 - 생성 후 변경하지 않음 (교체 방식으로 갱신)
+final class SymSpellDictionary {
+
+    static final SymSpellDictionary EMPTY = new SymSpellDictionary(Map.of(), 2, 7);
+
+    private final int maxEditDistance;
+    private final int prefixLength;
+    private final String[] words;
+    private final long[] frequencies;
+    private final Map<String, Integer> wordIndex;
+    // 삭제 변형 -> 원래 단어 번호 목록
+    private final Map<String, int[]> deletes;
+
+    SymSpellDictionary(Map<String, Long> wordFrequencies, int maxEditDistance, int prefixLength) {
+        this.maxEditDistance = maxEditDistance;
+        this.prefixLength = prefixLength;
+        this.words = new String[wordFrequencies.size()];
+        this.frequencies = new long[wordFrequencies.size()];
+        this.wordIndex = new HashMap<>(wordFrequencies.size() * 2);
+
+        Map<String, List<Integer>> building = new HashMap<>();
+        int next = 0;
+        for (Map.Entry<String, Long> entry : wordFrequencies.entrySet()) {
+            words[next] = entry.getKey();
+            frequencies[next] = entry.getValue();
+            wordIndex.put(entry.getKey(), next);
+            for (String variant : deletesOf(entry.getKey())) {
+                building.computeIfAbsent(variant, key -> new ArrayList<>(2)).add(next);
+            }
+            next++;
+        }
+
+        this.deletes = new HashMap<>(building.size() * 2);
+        for (Map.Entry<String, List<Integer>> entry : building.entrySet()) {
+            List<Integer> ids = entry.getValue();
+            int[] packed = new int[ids.size()];
+            for (int i = 0; i < packed.length; i++) {
+                packed[i] = ids.get(i);
+            }
+            deletes.put(entry.getKey(), packed);
+        }
+    }
+
+    int size() {
+        return words.length;
+    }
+
+    // 편집 거리가 가장 작고, 같으면 빈도가 높은 단어 (없으면 null)
+    String lookup(String input) {
+        if (input.isEmpty() || words.length == 0) {
+            return null;
+        }
+        if (wordIndex.containsKey(input)) {
+            return input;
+        }
+        int maxDistance = allowedDistance(input);
+
+        String best = null;
+        int bestDistance = Integer.MAX_VALUE;
+        long bestFrequency = -1;
+        Set<Integer> seen = new HashSet<>();
+        for (String variant : deletesOf(input)) {
+            int[] ids = deletes.get(variant);
+            if (ids == null) continue;
+            for (int id : ids) {
+                if (!seen.add(id)) continue;
+                String candidate = words[id];
+                if (Math.abs(candidate.length() - input.length()) > maxDistance) continue;
+                int distance = editDistance(input, candidate, maxDistance);
+                if (distance < 0) continue;
+                if (distance < bestDistance || (distance == bestDistance && frequencies[id] > bestFrequency)) {
+                    best = candidate;
+                    bestDistance = distance;
+                    bestFrequency = frequencies[id];
+                }
+            }
+        }
+        return best;
+    }
+
+    // 짧은 단어는 한 글자만 허용 (두 글자 단어를 두 번 고치면 전혀 다른 단어가 됨)
+    private int allowedDistance(String word) {
+        return word.length() <= 3 ? Math.min(1, maxEditDistance) : maxEditDistance;
+    }
+
+    // 앞 prefixLength 글자에 대해 최대 maxEditDistance 개 문자를 지운 변형 (원문 포함)
+    private Set<String> deletesOf(String word) {
+        String key = word.length() > prefixLength ? word.substring(0, prefixLength) : word;
+        Set<String> result = new HashSet<>();
+        result.add(key);
+        List<String> frontier = List.of(key);
+        for (int distance = 1; distance <= allowedDistance(word); distance++) {
+            List<String> nextFrontier = new ArrayList<>();
+            for (String current : frontier) {
+                if (current.length() <= 1) continue;
+                for (int i = 0; i < current.length(); i++) {
+                    String deleted = current.substring(0, i) + current.substring(i + 1);
+                    if (result.add(deleted)) {
+                        nextFrontier.add(deleted);
+                    }
+                }
+            }
+            frontier = nextFrontier;
+        }
+        return result;
+    }
+
+    // 인접 전치 포함 편집 거리 (maxDistance 초과 시 -1)
+    private static int editDistance(String a, String b, int maxDistance) {
+        int[][] d = new int[a.length() + 1][b.length() + 1];
+        for (int i = 0; i <= a.length(); i++) d[i][0] = i;
+        for (int j = 0; j <= b.length(); j++) d[0][j] = j;
+        for (int i = 1; i <= a.length(); i++) {
+            int rowMin = Integer.MAX_VALUE;
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(Math.min(d[i - 1][j] + 1, d[i][j - 1] + 1), d[i - 1][j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    value = Math.min(value, d[i - 2][j - 2] + 1);
+                }
+                d[i][j] = value;
+                rowMin = Math.min(rowMin, value);
+            }
+            if (rowMin > maxDistance) {
+                return -1;
+            }
+        }
+        int distance = d[a.length()][b.length()];
+        return distance <= maxDistance ? distance : -1;
+    }
+}
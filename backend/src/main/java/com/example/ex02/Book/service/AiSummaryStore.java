@@ -0,0 +1,108 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.repository.AiSummaryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// AI 요약 저장소 (메모리 LRU → ai_summary 테이블 순으로 조회, 키: 도서 ID + 프롬프트 해시)
+@Service
+public class AiSummaryStore {
+
+    private final AiSummaryRepository aiSummaryRepository;
+    private final int maxEntries;
+    private final Map<String, String> recent;
+
+    private final Counter memoryHits;
+    private final Counter dbHits;
+    private final Counter misses;
+
+    public AiSummaryStore(
+            AiSummaryRepository aiSummaryRepository,
+            MeterRegistry meterRegistry,
+            @Value("${book.summary.cache.max-entries:2000}") int maxEntries
+    ) {
+        this.aiSummaryRepository = aiSummaryRepository;
+        this.maxEntries = maxEntries;
+        this.recent = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > AiSummaryStore.this.maxEntries;
+            }
+        };
+        this.memoryHits = Counter.builder("ai.summary.cache").tag("result", "memory").register(meterRegistry);
+        this.dbHits = Counter.builder("ai.summary.cache").tag("result", "db").register(meterRegistry);
+        this.misses = Counter.builder("ai.summary.cache").tag("result", "miss").register(meterRegistry);
+    }
+
+    // 저장된 요약 (없으면 null)
+    public String find(Long bookId, String promptHash) {
+        String key = keyOf(bookId, promptHash);
+        synchronized (recent) {
+            String cached = recent.get(key);
+            if (cached != null) {
+                memoryHits.increment();
+                return cached;
+            }
+        }
+
+        String stored = aiSummaryRepository.findSummary(bookId, promptHash).orElse(null);
+        if (stored == null) {
+            misses.increment();
+            return null;
+        }
+        dbHits.increment();
+        remember(key, stored);
+        return stored;
+    }
+
+    // 새 요약 저장 (같은 도서의 이전 템플릿/모델 요약은 삭제, 동시 생성된 요약은 덮어씀)
+    @Transactional
+    public void save(Long bookId, String promptHash, String model, String summary) {
+        // DB 저장이 실패해도 이 인스턴스에서는 바로 재사용
+        remember(keyOf(bookId, promptHash), summary);
+
+        aiSummaryRepository.deleteOutdated(bookId, promptHash);
+        aiSummaryRepository.upsert(bookId, promptHash, model, summary, LocalDateTime.now());
+    }
+
+    // 도서 제목/저자/소개 등이 바뀌면 저장된 요약을 모두 버림 (커밋 후 메모리에서도 한 번 더 제거)
+    @Transactional
+    public void evict(Long bookId) {
+        forget(bookId);
+        aiSummaryRepository.deleteByBookId(bookId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    forget(bookId);
+                }
+            });
+        }
+    }
+
+    private void forget(Long bookId) {
+        String prefix = bookId + ":";
+        synchronized (recent) {
+            recent.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    private void remember(String key, String summary) {
+        synchronized (recent) {
+            recent.put(key, summary);
+        }
+    }
+
+    private String keyOf(Long bookId, String promptHash) {
+        return bookId + ":" + promptHash;
+    }
+}
@@ -0,0 +1,194 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BestsellerAggregateDTO;
+import com.example.ex02.Book.dto.BestsellerEntryDTO;
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.dto.ConsensusBestsellerDTO;
+import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.util.IsbnUtils;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 출처별 베스트셀러를 하나로 합친 통합 목록 (스냅샷이 바뀔 때 미리 계산, 요청은 완성본만 읽음)
+@Service
+@RequiredArgsConstructor
+public class BestsellerAggregateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BestsellerAggregateService.class);
+    // 합산 순위는 서점 판매 순위만 사용 (도서관 대출 순위는 성격이 달라 제외)
+    private static final Set<BestsellerSource> CONSENSUS_SOURCES =
+            EnumSet.of(BestsellerSource.ALADIN, BestsellerSource.KYOBO, BestsellerSource.YES24);
+    private static final int TOP_N = 10;
+
+    private final BookRepository bookRepository;
+    private final AtomicReference<BestsellerAggregateDTO> aggregate =
+            new AtomicReference<>(new BestsellerAggregateDTO(Map.of(), List.of(), null));
+
+    public BestsellerAggregateDTO getAggregate() {
+        return aggregate.get();
+    }
+
+    // 전체 스냅샷으로 다시 계산해 통째로 교체 (bookId 는 IN 조회 한 번으로 해결)
+    public void rebuild(Map<BestsellerSource, BestsellerSnapshot> snapshots) {
+        long started = System.currentTimeMillis();
+        Map<String, Long> bookIds = resolveBookIds(snapshots.values());
+
+        Map<String, List<BestsellerEntryDTO>> sources = new LinkedHashMap<>();
+        for (BestsellerSource source : BestsellerSource.values()) {
+            BestsellerSnapshot snapshot = snapshots.get(source);
+            List<BestsellerItemDTO> items = snapshot != null ? snapshot.getItems() : List.of();
+            List<BestsellerEntryDTO> entries = new ArrayList<>(items.size());
+            for (int i = 0; i < items.size(); i++) {
+                BestsellerItemDTO item = items.get(i);
+                entries.add(new BestsellerEntryDTO(i + 1, bookIdOf(item, bookIds),
+                        item.getTitle(), item.getAuthor(), item.getPublisher(),
+                        item.getIsbn13(), item.getCover(), item.getLink()));
+            }
+            sources.put(source.name(), Collections.unmodifiableList(entries));
+        }
+
+        List<ConsensusBestsellerDTO> consensus = consensus(snapshots, bookIds);
+        aggregate.set(new BestsellerAggregateDTO(
+                Collections.unmodifiableMap(sources), consensus, LocalDateTime.now()));
+        logger.debug("Bestseller aggregate rebuilt: {} consensus items in {}ms",
+                consensus.size(), System.currentTimeMillis() - started);
+    }
+
+    // 보르다 카운트 - 출처마다 1위 10점 … 10위 1점, 같은 책(정규화 ISBN, 없으면 제목)끼리 합산
+    private List<ConsensusBestsellerDTO> consensus(
+            Map<BestsellerSource, BestsellerSnapshot> snapshots,
+            Map<String, Long> bookIds
+    ) {
+        Map<String, Candidate> candidates = new LinkedHashMap<>();
+        for (BestsellerSource source : CONSENSUS_SOURCES) {
+            BestsellerSnapshot snapshot = snapshots.get(source);
+            if (snapshot == null) continue;
+
+            List<BestsellerItemDTO> items = snapshot.getItems();
+            for (int i = 0; i < items.size() && i < TOP_N; i++) {
+                BestsellerItemDTO item = items.get(i);
+                String key = mergeKey(item);
+                if (key == null) continue;
+                candidates.computeIfAbsent(key, k -> new Candidate()).add(source, i + 1, item);
+            }
+        }
+
+        // 동점이면 여러 서점에 오른 책, 그다음 가장 높은 순위 순
+        List<Candidate> ranked = new ArrayList<>(candidates.values());
+        ranked.sort(Comparator.comparingInt(Candidate::score).reversed()
+                .thenComparing(Comparator.comparingInt(Candidate::sourceCount).reversed())
+                .thenComparingInt(Candidate::bestRank));
+
+        List<ConsensusBestsellerDTO> results = new ArrayList<>();
+        for (Candidate candidate : ranked) {
+            if (results.size() >= TOP_N) break;
+            BestsellerItemDTO item = candidate.item;
+            Map<String, Integer> sourceRanks = new LinkedHashMap<>();
+            candidate.ranks.forEach((source, rank) -> sourceRanks.put(source.name(), rank));
+            results.add(new ConsensusBestsellerDTO(results.size() + 1, candidate.score(),
+                    Collections.unmodifiableMap(sourceRanks), bookIdOf(item, bookIds),
+                    item.getTitle(), item.getAuthor(), item.getPublisher(),
+                    item.getIsbn13(), item.getCover(), item.getLink()));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private Map<String, Long> resolveBookIds(Collection<BestsellerSnapshot> snapshots) {
+        Set<String> isbns = new HashSet<>();
+        for (BestsellerSnapshot snapshot : snapshots) {
+            for (BestsellerItemDTO item : snapshot.getItems()) {
+                String isbn = IsbnUtils.toIsbn13(item.getIsbn13());
+                if (isbn != null) {
+                    isbns.add(isbn);
+                }
+            }
+        }
+        if (isbns.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, Long> bookIds = new HashMap<>();
+        try {
+            for (Object[] row : bookRepository.findBookIdsByIsbn13In(isbns)) {
+                bookIds.put((String) row[0], ((Number) row[1]).longValue());
+            }
+        } catch (Exception e) {
+            // 조회 실패 시 bookId 없이 목록만 제공
+            logger.warn("Bestseller bookId lookup failed: {}", e.getMessage());
+        }
+        return bookIds;
+    }
+
+    private Long bookIdOf(BestsellerItemDTO item, Map<String, Long> bookIds) {
+        String isbn = IsbnUtils.toIsbn13(item.getIsbn13());
+        return isbn != null ? bookIds.get(isbn) : null;
+    }
+
+    private String mergeKey(BestsellerItemDTO item) {
+        String isbn = IsbnUtils.toIsbn13(item.getIsbn13());
+        if (isbn != null) {
+            return isbn;
+        }
+        String title = item.getTitle() == null ? "" : item.getTitle().replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+        return title.isEmpty() ? null : "title:" + title;
+    }
+
+    // 합산 후보 (대표 항목은 처음 본 것, 비어 있는 필드는 다른 출처 값으로 보충)
+    private static final class Candidate {
+
+        private final Map<BestsellerSource, Integer> ranks = new EnumMap<>(BestsellerSource.class);
+        private BestsellerItemDTO item;
+
+        private void add(BestsellerSource source, int rank, BestsellerItemDTO other) {
+            // 같은 출처에 중복으로 오르면 높은 순위만 반영
+            ranks.merge(source, rank, Math::min);
+            if (item == null) {
+                item = new BestsellerItemDTO(other.getTitle(), other.getAuthor(), other.getPublisher(),
+                        other.getIsbn13(), other.getCover(), other.getLink());
+                return;
+            }
+            if (isBlank(item.getAuthor())) item.setAuthor(other.getAuthor());
+            if (isBlank(item.getPublisher())) item.setPublisher(other.getPublisher());
+            if (isBlank(item.getCover())) item.setCover(other.getCover());
+            if (isBlank(item.getLink())) item.setLink(other.getLink());
+        }
+
+        private int score() {
+            int score = 0;
+            for (int rank : ranks.values()) {
+                score += TOP_N + 1 - rank;
+            }
+            return score;
+        }
+
+        private int sourceCount() {
+            return ranks.size();
+        }
+
+        private int bestRank() {
+            return ranks.values().stream().mapToInt(Integer::intValue).min().orElse(Integer.MAX_VALUE);
+        }
+
+        private static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// 베스트셀러 목록 백그라운드 수집 (저장본으로 기동 + 지터를 둔 주기로 갱신, 요청은 최신 스냅샷만 읽음)
+@Service
+public class BestsellerRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BestsellerRefreshService.class);
+    // 출처마다 기동 직후 동시에 몰리지 않도록 시작 시각을 조금씩 어긋나게
+    private static final long STARTUP_STAGGER_SECONDS = 5;
+
+    private final BookService bookService;
+    private final BestsellerSnapshotStore bestsellerSnapshotStore;
+    private final BestsellerAggregateService bestsellerAggregateService;
+    private final Map<BestsellerSource, Supplier<List<BestsellerItemDTO>>> fetchers = new EnumMap<>(BestsellerSource.class);
+    private final AtomicReference<Map<BestsellerSource, BestsellerSnapshot>> snapshots =
+            new AtomicReference<>(Map.of());
+    private final ScheduledExecutorService scheduler;
+    private final long intervalMillis;
+    private final long retryMillis;
+    private final double jitterRatio;
+
+    public BestsellerRefreshService(
+            BookService bookService,
+            BestsellerSnapshotStore bestsellerSnapshotStore,
+            BestsellerAggregateService bestsellerAggregateService,
+            AladinBestsellerService aladinBestsellerService,
+            StoreBestsellerScrapeService storeBestsellerScrapeService,
+            Data4LibraryLoanRankingService data4LibraryLoanRankingService,
+            @Value("${bestseller.refresh.interval-minutes:360}") long intervalMinutes,
+            @Value("${bestseller.refresh.retry-minutes:10}") long retryMinutes,
+            @Value("${bestseller.refresh.jitter-ratio:0.1}") double jitterRatio
+    ) {
+        this.bookService = bookService;
+        this.bestsellerSnapshotStore = bestsellerSnapshotStore;
+        this.bestsellerAggregateService = bestsellerAggregateService;
+        this.intervalMillis = TimeUnit.MINUTES.toMillis(intervalMinutes);
+        this.retryMillis = TimeUnit.MINUTES.toMillis(retryMinutes);
+        this.jitterRatio = jitterRatio;
+
+        fetchers.put(BestsellerSource.ALADIN, aladinBestsellerService::fetchTop10);
+        fetchers.put(BestsellerSource.KYOBO, storeBestsellerScrapeService::fetchKyoboTop10);
+        fetchers.put(BestsellerSource.YES24, storeBestsellerScrapeService::fetchYes24Top10);
+        fetchers.put(BestsellerSource.SEOUL_LOAN, data4LibraryLoanRankingService::fetchSeoulMonthlyTop10);
+
+        // 교보 수집은 수 분 걸릴 수 있으므로 출처별로 스레드를 나눠 서로 막지 않게
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(fetchers.size(), runnable -> {
+            Thread thread = new Thread(runnable, "bestseller-refresh-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 기동 완료(ready) 전에 마지막 저장본을 올려 두어 재기동 직후에도 바로 응답
+    @PostConstruct
+    public void restore() {
+        try {
+            Map<BestsellerSource, BestsellerSnapshot> stored = bestsellerSnapshotStore.loadAll();
+            snapshots.set(Collections.unmodifiableMap(stored));
+            rebuildAggregate();
+            logger.info("Restored bestseller snapshots: {}", stored.keySet());
+        } catch (Exception e) {
+            logger.warn("Bestseller snapshot restore failed; starting cold: {}", e.getMessage());
+        }
+    }
+
+    // 저장본이 아직 유효하면 남은 시간 뒤에 갱신 (배포 때마다 모든 노드가 한꺼번에 수집하지 않도록)
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        long now = System.currentTimeMillis();
+        long stagger = 0;
+        for (BestsellerSource source : fetchers.keySet()) {
+            long delay = TimeUnit.SECONDS.toMillis(stagger);
+            BestsellerSnapshot restored = snapshots.get().get(source);
+            if (restored != null) {
+                long dueAt = restored.getFetchedAt().toEpochMilli() + jittered(intervalMillis);
+                delay = Math.max(delay, dueAt - now);
+            }
+            scheduler.schedule(() -> refresh(source), delay, TimeUnit.MILLISECONDS);
+            stagger += STARTUP_STAGGER_SECONDS;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    // 최신 목록 (아직 수집 전이면 빈 목록)
+    public List<BestsellerItemDTO> getItems(BestsellerSource source) {
+        BestsellerSnapshot snapshot = snapshots.get().get(source);
+        return snapshot != null ? snapshot.getItems() : Collections.emptyList();
+    }
+
+    public BestsellerSnapshot getSnapshot(BestsellerSource source) {
+        return snapshots.get().get(source);
+    }
+
+    // 한 출처 수집 후 다음 수집 예약 (실패/빈 결과면 기존 스냅샷 유지하고 짧은 간격으로 재시도)
+    void refresh(BestsellerSource source) {
+        long nextDelay = retryMillis;
+        try {
+            long started = System.currentTimeMillis();
+            List<BestsellerItemDTO> items = fetchers.get(source).get();
+            if (items != null && !items.isEmpty()) {
+                // 목록에 나온 도서는 게시 전에 DB 에 적재해 두어 요청 경로에서 쓰기 작업이 없도록
+                bookService.ensureBooksByIsbn(items);
+                BestsellerSnapshot snapshot = new BestsellerSnapshot(source, items, Instant.now());
+                publish(snapshot);
+                rebuildAggregate();
+                persist(snapshot);
+                nextDelay = jittered(intervalMillis);
+                logger.info("{} bestsellers refreshed: {} items in {}ms",
+                        source, items.size(), System.currentTimeMillis() - started);
+            } else {
+                logger.warn("{} bestseller refresh returned no items; keeping previous snapshot", source);
+            }
+        } catch (Exception e) {
+            logger.error("{} bestseller refresh failed: {}", source, e.getMessage(), e);
+        } finally {
+            if (!scheduler.isShutdown()) {
+                scheduler.schedule(() -> refresh(source), nextDelay, TimeUnit.MILLISECONDS);
+            }
+        }
+    }
+
+    // 출처 하나만 바뀐 새 맵으로 통째로 교체 (읽는 쪽은 항상 일관된 맵을 봄)
+    private void publish(BestsellerSnapshot snapshot) {
+        snapshots.updateAndGet(current -> {
+            Map<BestsellerSource, BestsellerSnapshot> next = new EnumMap<>(BestsellerSource.class);
+            next.putAll(current);
+            next.put(snapshot.getSource(), snapshot);
+            return Collections.unmodifiableMap(next);
+        });
+    }
+
+    // 통합 목록 재계산 - 잠금 안에서 최신 맵을 읽어 출처 두 곳이 동시에 갱신돼도 오래된 결과로 덮어쓰지 않음
+    private synchronized void rebuildAggregate() {
+        try {
+            bestsellerAggregateService.rebuild(snapshots.get());
+        } catch (Exception e) {
+            logger.warn("Bestseller aggregate rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    private void persist(BestsellerSnapshot snapshot) {
+        try {
+            bestsellerSnapshotStore.save(snapshot);
+        } catch (Exception e) {
+            logger.warn("{} bestseller snapshot save failed: {}", snapshot.getSource(), e.getMessage());
+        }
+    }
+
+    // 여러 인스턴스/출처가 같은 시각에 외부 사이트를 치지 않도록 ±jitter
+    private long jittered(long base) {
+        long spread = (long) (base * jitterRatio);
+        if (spread <= 0) {
+            return base;
+        }
+        return base - spread + ThreadLocalRandom.current().nextLong(spread * 2 + 1);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+// 출처별 베스트셀러 목록 스냅샷 (불변 - 갱신 시 새 인스턴스로 교체)
+public final class BestsellerSnapshot {
+
+    private final BestsellerSource source;
+    private final List<BestsellerItemDTO> items;
+    private final Instant fetchedAt;
+
+    public BestsellerSnapshot(BestsellerSource source, List<BestsellerItemDTO> items, Instant fetchedAt) {
+        this.source = source;
+        this.items = items.stream().filter(Objects::nonNull).toList();
+        this.fetchedAt = fetchedAt;
+    }
+
+    public BestsellerSource getSource() {
+        return source;
+    }
+
+    public List<BestsellerItemDTO> getItems() {
+        return items;
+    }
+
+    public Instant getFetchedAt() {
+        return fetchedAt;
+    }
+}
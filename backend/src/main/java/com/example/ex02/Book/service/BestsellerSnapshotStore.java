@@ -0,0 +1,87 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.entity.BestsellerSnapshotEntity;
+import com.example.ex02.Book.repository.BestsellerSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 베스트셀러 스냅샷 DB 저장/복원 (출처별로 마지막 목록 1벌만 유지)
+@Service
+@RequiredArgsConstructor
+public class BestsellerSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(BestsellerSnapshotStore.class);
+
+    private final BestsellerSnapshotRepository bestsellerSnapshotRepository;
+
+    // 저장된 모든 출처의 스냅샷 복원
+    @Transactional(readOnly = true)
+    public Map<BestsellerSource, BestsellerSnapshot> loadAll() {
+        Map<BestsellerSource, List<BestsellerItemDTO>> items = new LinkedHashMap<>();
+        Map<BestsellerSource, LocalDateTime> fetchedAt = new EnumMap<>(BestsellerSource.class);
+        for (BestsellerSnapshotEntity row : bestsellerSnapshotRepository.findAllByOrderBySourceAscRankNoAsc()) {
+            BestsellerSource source;
+            try {
+                source = BestsellerSource.valueOf(row.getSource());
+            } catch (IllegalArgumentException e) {
+                logger.warn("Ignoring bestseller snapshot row with unknown source {}", row.getSource());
+                continue;
+            }
+            items.computeIfAbsent(source, key -> new ArrayList<>()).add(new BestsellerItemDTO(
+                    row.getTitle(),
+                    row.getAuthor(),
+                    row.getPublisher(),
+                    row.getIsbn13(),
+                    row.getCover(),
+                    row.getLink()
+            ));
+            fetchedAt.put(source, row.getFetchedAt());
+        }
+
+        Map<BestsellerSource, BestsellerSnapshot> result = new EnumMap<>(BestsellerSource.class);
+        items.forEach((source, list) -> result.put(source, new BestsellerSnapshot(
+                source, list, fetchedAt.get(source).atZone(ZoneId.systemDefault()).toInstant())));
+        return result;
+    }
+
+    // 출처 목록을 새 스냅샷으로 교체
+    @Transactional
+    public void save(BestsellerSnapshot snapshot) {
+        String source = snapshot.getSource().name();
+        LocalDateTime fetchedAt = LocalDateTime.ofInstant(snapshot.getFetchedAt(), ZoneId.systemDefault());
+
+        List<BestsellerSnapshotEntity> rows = new ArrayList<>();
+        int rank = 1;
+        for (BestsellerItemDTO item : snapshot.getItems()) {
+            BestsellerSnapshotEntity row = new BestsellerSnapshotEntity();
+            row.setSource(source);
+            row.setRankNo(rank++);
+            row.setTitle(truncate(item.getTitle(), 200));
+            row.setAuthor(truncate(item.getAuthor(), 500));
+            row.setPublisher(truncate(item.getPublisher(), 100));
+            row.setIsbn13(truncate(item.getIsbn13(), 20));
+            row.setCover(truncate(item.getCover(), 500));
+            row.setLink(truncate(item.getLink(), 500));
+            row.setFetchedAt(fetchedAt);
+            rows.add(row);
+        }
+        bestsellerSnapshotRepository.deleteBySource(source);
+        bestsellerSnapshotRepository.saveAll(rows);
+    }
+
+    private String truncate(String value, int max) {
+        return value != null && value.length() > max ? value.substring(0, max) : value;
+    }
+}
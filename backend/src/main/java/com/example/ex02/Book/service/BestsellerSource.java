@@ -0,0 +1,9 @@
+package com.example.ex02.Book.service;
+
+// 베스트셀러/인기 도서 목록 출처
+public enum BestsellerSource {
+    ALADIN,
+    KYOBO,
+    YES24,
+    SEOUL_LOAN
+}
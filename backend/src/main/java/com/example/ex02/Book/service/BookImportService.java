@@ -0,0 +1,374 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookImportJobDTO;
+import com.example.ex02.Book.search.BookCatalogIndexer;
+import com.example.ex02.Book.util.IsbnUtils;
+import com.example.ex02.common.XlsxRowReader;
+import com.opencsv.CSVReader;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 대용량 CSV/XLSX 도서 목록 일괄 등록 (임시 파일로 받아 한 행씩 읽고, 청크 단위 트랜잭션으로 JDBC 배치 INSERT)
+@Service
+public class BookImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookImportService.class);
+    private static final int CHUNK_SIZE = 2000;
+    private static final int PROGRESS_LOG_INTERVAL = 50_000;
+    private static final int MAX_KEPT_JOBS = 20;
+
+    private static final String INSERT_SQL = """
+        INSERT IGNORE INTO book (isbn, isbn13, title, author, publisher, published_date, image_url)
+        VALUES (?, ?, ?, ?, ?, ?, ?)
+    """;
+
+    // 헤더 이름(소문자, 공백 제거) -> 필드
+    private static final Map<String, String> HEADER_ALIASES = Map.ofEntries(
+            Map.entry("isbn", "isbn"), Map.entry("isbn13", "isbn"), Map.entry("isbn10", "isbn"),
+            Map.entry("title", "title"), Map.entry("제목", "title"), Map.entry("도서명", "title"), Map.entry("서명", "title"),
+            Map.entry("author", "author"), Map.entry("authors", "author"), Map.entry("저자", "author"),
+            Map.entry("publisher", "publisher"), Map.entry("출판사", "publisher"),
+            Map.entry("published_date", "publishedDate"), Map.entry("publisheddate", "publishedDate"),
+            Map.entry("출판일", "publishedDate"), Map.entry("발행일", "publishedDate"), Map.entry("출판년도", "publishedDate"),
+            Map.entry("image_url", "imageUrl"), Map.entry("imageurl", "imageUrl"), Map.entry("cover", "imageUrl"),
+            Map.entry("이미지", "imageUrl")
+    );
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("yyyyMMdd"),
+            DateTimeFormatter.ofPattern("yyyy.MM.dd"),
+            DateTimeFormatter.ofPattern("yyyy/MM/dd")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BookCatalogIndexer bookCatalogIndexer;
+
+    // 일괄 등록은 한 번에 하나씩만 실행
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "book-import");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, ImportJob> jobs = new LinkedHashMap<>();
+
+    public BookImportService(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             BookCatalogIndexer bookCatalogIndexer) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.bookCatalogIndexer = bookCatalogIndexer;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 요청 본문을 임시 파일로 저장한 뒤 백그라운드 작업으로 등록
+    public BookImportJobDTO startImport(InputStream body, String format) throws IOException {
+        String normalizedFormat = format == null ? "" : format.trim().toLowerCase(Locale.ROOT);
+        if (!normalizedFormat.equals("csv") && !normalizedFormat.equals("xlsx")) {
+            throw new IllegalArgumentException("Unsupported import format: " + format);
+        }
+
+        Path spool = Files.createTempFile("book-import-", "." + normalizedFormat);
+        try {
+            Files.copy(body, spool, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            Files.deleteIfExists(spool);
+            throw e;
+        }
+
+        ImportJob job = new ImportJob(UUID.randomUUID().toString(), normalizedFormat);
+        synchronized (jobs) {
+            evictFinishedJobs();
+            jobs.put(job.id, job);
+        }
+        executor.submit(() -> run(job, spool));
+        return job.toDTO();
+    }
+
+    // 없는(또는 오래되어 정리된) 작업 ID 면 빈 값
+    public Optional<BookImportJobDTO> findJob(String jobId) {
+        ImportJob job;
+        synchronized (jobs) {
+            job = jobs.get(jobId);
+        }
+        return Optional.ofNullable(job).map(ImportJob::toDTO);
+    }
+
+    private void run(ImportJob job, Path spool) {
+        job.status = "RUNNING";
+        job.startedAt = System.currentTimeMillis();
+        ChunkWriter writer = new ChunkWriter(job);
+        try {
+            if (job.format.equals("csv")) {
+                readCsv(spool.toFile(), writer);
+            } else {
+                readXlsx(spool.toFile(), writer);
+            }
+            writer.flush();
+            job.status = "COMPLETED";
+        } catch (Exception e) {
+            logger.error("Book import {} failed after {} rows", job.id, job.rowsRead.get(), e);
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = System.currentTimeMillis();
+            try {
+                Files.deleteIfExists(spool);
+            } catch (IOException e) {
+                logger.warn("Failed to delete import spool file {}", spool, e);
+            }
+        }
+
+        BookImportJobDTO result = job.toDTO();
+        logger.info("Book import {} {}: rows={}, inserted={}, duplicates={}, invalid={}, {} rows/s",
+                job.id, result.getStatus(), result.getRowsRead(), result.getInserted(),
+                result.getDuplicates(), result.getInvalid(), Math.round(result.getRowsPerSecond()));
+
+        // 새 도서가 들어왔으면 검색 인덱스를 한 번에 재구성
+        if (job.inserted.get() > 0) {
+            bookCatalogIndexer.rebuildAll();
+        }
+    }
+
+    private void readCsv(File file, ChunkWriter writer) throws Exception {
+        try (CSVReader reader = new CSVReader(new BufferedReader(
+                new InputStreamReader(Files.newInputStream(file.toPath()), StandardCharsets.UTF_8)))) {
+            String[] header = reader.readNext();
+            if (header == null) {
+                return;
+            }
+            Map<String, Integer> columns = resolveColumns(Arrays.asList(header));
+            String[] line;
+            while ((line = reader.readNext()) != null) {
+                writer.accept(Arrays.asList(line), columns);
+            }
+        }
+    }
+
+    private void readXlsx(File file, ChunkWriter writer) throws IOException {
+        Map<String, Integer> columns = new HashMap<>();
+        XlsxRowReader.read(file, (rowIndex, cells) -> {
+            if (columns.isEmpty()) {
+                columns.putAll(resolveColumns(cells));
+                return true;
+            }
+            writer.accept(cells, columns);
+            return true;
+        });
+    }
+
+    // 헤더 행에서 필드별 열 번호를 찾음 (ISBN 과 제목 열은 필수)
+    private Map<String, Integer> resolveColumns(List<String> header) {
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i) == null ? "" : header.get(i)
+                    .replace("\uFEFF", "")
+                    .replaceAll("\\s+", "")
+                    .toLowerCase(Locale.ROOT);
+            String field = HEADER_ALIASES.get(name);
+            if (field != null) {
+                columns.putIfAbsent(field, i);
+            }
+        }
+        if (!columns.containsKey("isbn") || !columns.containsKey("title")) {
+            throw new IllegalArgumentException("Import file needs isbn and title columns: " + header);
+        }
+        return columns;
+    }
+
+    private void evictFinishedJobs() {
+        if (jobs.size() < MAX_KEPT_JOBS) {
+            return;
+        }
+        // 오래된(먼저 등록된) 종료 작업부터 제거
+        Iterator<ImportJob> iterator = jobs.values().iterator();
+        while (iterator.hasNext() && jobs.size() >= MAX_KEPT_JOBS) {
+            if (iterator.next().finishedAt > 0) {
+                iterator.remove();
+            }
+        }
+    }
+
+    // 파일 내 중복을 청크 안에서 제거하고, 청크마다 기존 ISBN 조회 + 배치 INSERT 를 한 트랜잭션으로 처리
+    private final class ChunkWriter {
+
+        private final ImportJob job;
+        private final Map<String, Object[]> pending = new LinkedHashMap<>();
+
+        private ChunkWriter(ImportJob job) {
+            this.job = job;
+        }
+
+        private void accept(List<String> cells, Map<String, Integer> columns) {
+            long read = job.rowsRead.incrementAndGet();
+            if (read % PROGRESS_LOG_INTERVAL == 0) {
+                BookImportJobDTO progress = job.toDTO();
+                logger.info("Book import {}: {} rows, {} inserted, {} rows/s",
+                        job.id, read, progress.getInserted(), Math.round(progress.getRowsPerSecond()));
+            }
+
+            String rawIsbn = cell(cells, columns, "isbn");
+            String isbn13 = IsbnUtils.toIsbn13(rawIsbn);
+            String title = cell(cells, columns, "title");
+            if (isbn13 == null || title == null) {
+                job.invalid.incrementAndGet();
+                return;
+            }
+            if (pending.containsKey(isbn13)) {
+                job.duplicates.incrementAndGet();
+                return;
+            }
+
+            pending.put(isbn13, new Object[] {
+                    truncate(rawIsbn.replace("-", "").trim(), 20),
+                    isbn13,
+                    truncate(title, 200),
+                    truncate(cell(cells, columns, "author"), 500),
+                    truncate(cell(cells, columns, "publisher"), 100),
+                    parseDate(cell(cells, columns, "publishedDate")),
+                    truncate(cell(cells, columns, "imageUrl"), 500)
+            });
+            if (pending.size() >= CHUNK_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<String> isbns = new ArrayList<>(pending.keySet());
+            Integer inserted = transactionTemplate.execute(status -> {
+                Set<String> existing = findExisting(isbns);
+                List<Object[]> params = new ArrayList<>(isbns.size());
+                for (String isbn13 : isbns) {
+                    if (!existing.contains(isbn13)) {
+                        params.add(pending.get(isbn13));
+                    }
+                }
+                if (params.isEmpty()) {
+                    return 0;
+                }
+                jdbcTemplate.batchUpdate(INSERT_SQL, params);
+                // rewriteBatchedStatements 사용 시 행마다 SUCCESS_NO_INFO(-2) 라 반환값으로는 셀 수 없음
+                // 같은 트랜잭션에서 다시 세어 증가분만 신규로 집계 (동시 등록으로 IGNORE 된 행은 제외)
+                return Math.max(0, countExisting(isbns) - existing.size());
+            });
+            int count = inserted == null ? 0 : inserted;
+            job.inserted.addAndGet(count);
+            job.duplicates.addAndGet(isbns.size() - count);
+            pending.clear();
+        }
+
+        private Set<String> findExisting(List<String> isbns) {
+            String placeholders = String.join(",", Collections.nCopies(isbns.size(), "?"));
+            return new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT isbn13 FROM book WHERE isbn13 IN (" + placeholders + ")",
+                    String.class,
+                    isbns.toArray()));
+        }
+
+        private int countExisting(List<String> isbns) {
+            String placeholders = String.join(",", Collections.nCopies(isbns.size(), "?"));
+            Integer count = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM book WHERE isbn13 IN (" + placeholders + ")",
+                    Integer.class,
+                    isbns.toArray());
+            return count == null ? 0 : count;
+        }
+
+        private String cell(List<String> cells, Map<String, Integer> columns, String field) {
+            Integer index = columns.get(field);
+            if (index == null || index >= cells.size() || cells.get(index) == null) {
+                return null;
+            }
+            String value = cells.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private String truncate(String value, int max) {
+            return value == null || value.length() <= max ? value : value.substring(0, max);
+        }
+
+        private Date parseDate(String value) {
+            if (value == null) {
+                return null;
+            }
+            for (DateTimeFormatter format : DATE_FORMATS) {
+                try {
+                    return Date.valueOf(LocalDate.parse(value, format));
+                } catch (Exception ignored) {
+                    // 다음 형식 시도
+                }
+            }
+            return null;
+        }
+    }
+
+    // 작업 상태 (카운터는 작업 스레드가 갱신하고 조회 요청이 읽음)
+    private static final class ImportJob {
+        private final String id;
+        private final String format;
+        private final AtomicLong rowsRead = new AtomicLong();
+        private final AtomicLong inserted = new AtomicLong();
+        private final AtomicLong duplicates = new AtomicLong();
+        private final AtomicLong invalid = new AtomicLong();
+        private volatile String status = "QUEUED";
+        private volatile String error;
+        private volatile long startedAt;
+        private volatile long finishedAt;
+
+        private ImportJob(String id, String format) {
+            this.id = id;
+            this.format = format;
+        }
+
+        private BookImportJobDTO toDTO() {
+            long end = finishedAt > 0 ? finishedAt : System.currentTimeMillis();
+            long elapsed = startedAt > 0 ? end - startedAt : 0;
+            long rows = rowsRead.get();
+            double rate = elapsed > 0 ? rows * 1000.0 / elapsed : 0.0;
+            return new BookImportJobDTO(id, format, status, rows, inserted.get(),
+                    duplicates.get(), invalid.get(), elapsed, rate, error);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.util.IsbnUtils;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 기존 도서의 isbn13 컬럼 1회성 백필 (스키마 갱신 후, 웹 서버 기동 전에 실행 - 완료되면 book_migration 에 기록)
+@Service
+@DependsOn("entityManagerFactory")
+public class BookIsbnBackfillService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookIsbnBackfillService.class);
+    private static final int BATCH_SIZE = 1000;
+    private static final String MIGRATION_NAME = "isbn13-backfill";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+
+    public BookIsbnBackfillService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${book.isbn13-backfill.enabled:true}") boolean enabled
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+    }
+
+    @PostConstruct
+    public void backfill() {
+        if (!enabled || isCompleted()) {
+            return;
+        }
+
+        long started = System.currentTimeMillis();
+        long lastId = 0L;
+        int updated = 0;
+        int skipped = 0;
+
+        while (true) {
+            // book_id 키셋으로 아직 isbn13 이 비어 있는 행만 순회
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("""
+                SELECT book_id, isbn FROM book
+                WHERE isbn13 IS NULL AND isbn IS NOT NULL AND book_id > ?
+                ORDER BY book_id
+                LIMIT ?
+            """, lastId, BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+
+            List<Object[]> params = new ArrayList<>();
+            for (Map<String, Object> row : rows) {
+                long bookId = ((Number) row.get("book_id")).longValue();
+                lastId = bookId;
+                String isbn13 = IsbnUtils.toIsbn13((String) row.get("isbn"));
+                if (isbn13 == null) {
+                    skipped++;
+                    continue;
+                }
+                params.add(new Object[] {isbn13, bookId});
+            }
+
+            // 이미 같은 isbn13 을 가진 행이 있으면(중복 도서) UPDATE IGNORE 로 건너뜀
+            if (!params.isEmpty()) {
+                int[] counts = jdbcTemplate.batchUpdate(
+                        "UPDATE IGNORE book SET isbn13 = ? WHERE book_id = ? AND isbn13 IS NULL",
+                        params
+                );
+                for (int count : counts) {
+                    if (count != 0) updated++;
+                    else skipped++;
+                }
+            }
+
+            if (rows.size() < BATCH_SIZE) {
+                break;
+            }
+        }
+
+        // 유효하지 않거나 중복인 ISBN 은 다시 돌려도 그대로 남으므로 완료로 기록
+        markCompleted();
+        logger.info("isbn13 backfill finished: updated={}, skipped={} in {}ms",
+                updated, skipped, System.currentTimeMillis() - started);
+    }
+
+    private boolean isCompleted() {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM book_migration WHERE name = ?", Integer.class, MIGRATION_NAME);
+        return count != null && count > 0;
+    }
+
+    private void markCompleted() {
+        jdbcTemplate.update("INSERT IGNORE INTO book_migration (name, completed_at) VALUES (?, ?)",
+                MIGRATION_NAME, LocalDateTime.now());
+    }
+}
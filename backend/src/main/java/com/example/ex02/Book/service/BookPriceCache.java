@@ -0,0 +1,166 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPricesResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+// 판매처 가격 LRU 캐시 (soft TTL 이 지나면 기존 값을 바로 돌려주고 백그라운드에서 1회만 갱신)
+@Component
+public class BookPriceCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookPriceCache.class);
+
+    private final int maxEntries;
+    private final long softTtlMillis;
+    private final long hardTtlMillis;
+    private final Map<String, Entry> entries;
+    private final ThreadPoolExecutor refresher;
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter refreshes;
+
+    private static final class Entry {
+        private final BookPricesResponse value;
+        private final long fetchedAt;
+        // 일부 판매처가 실패한 응답은 바로 갱신 대상
+        private final boolean complete;
+        private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+        private Entry(BookPricesResponse value, long fetchedAt, boolean complete) {
+            this.value = value;
+            this.fetchedAt = fetchedAt;
+            this.complete = complete;
+        }
+    }
+
+    public BookPriceCache(
+            MeterRegistry meterRegistry,
+            @Value("${book.price.cache.max-entries:5000}") int maxEntries,
+            @Value("${book.price.cache.soft-ttl-minutes:30}") long softTtlMinutes,
+            @Value("${book.price.cache.hard-ttl-minutes:720}") long hardTtlMinutes
+    ) {
+        this.maxEntries = maxEntries;
+        this.softTtlMillis = TimeUnit.MINUTES.toMillis(softTtlMinutes);
+        this.hardTtlMillis = TimeUnit.MINUTES.toMillis(hardTtlMinutes);
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > BookPriceCache.this.maxEntries) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.refresher = new ThreadPoolExecutor(
+                2, 2, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(200),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "book-price-refresh");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.refresher.allowCoreThreadTimeOut(true);
+
+        this.hits = meterRegistry.counter("book.price.cache.requests", "result", "hit");
+        this.staleHits = meterRegistry.counter("book.price.cache.requests", "result", "stale");
+        this.misses = meterRegistry.counter("book.price.cache.requests", "result", "miss");
+        this.evictions = meterRegistry.counter("book.price.cache.evictions");
+        this.refreshes = meterRegistry.counter("book.price.cache.refreshes");
+        Gauge.builder("book.price.cache.size", this, BookPriceCache::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    // 캐시 조회 - 없거나 hard TTL 이 지났으면 loader 로 직접 조회
+    public BookPricesResponse get(String key, Supplier<BookPricesResponse> loader) {
+        BookPricesResponse cached = getOrRefresh(key, loader);
+        if (cached != null) {
+            return cached;
+        }
+        BookPricesResponse loaded = loader.get();
+        put(key, loaded);
+        return loaded;
+    }
+
+    // hard TTL 이내의 캐시 값만 조회 (soft TTL 이 지났거나 불완전하면 기존 값을 돌려주고 백그라운드 갱신, 없으면 null)
+    BookPricesResponse getOrRefresh(String key, Supplier<BookPricesResponse> loader) {
+        long now = System.currentTimeMillis();
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+        }
+
+        if (entry == null || now - entry.fetchedAt >= hardTtlMillis) {
+            misses.increment();
+            return null;
+        }
+        if (entry.complete && now - entry.fetchedAt < softTtlMillis) {
+            hits.increment();
+            return entry.value;
+        }
+        staleHits.increment();
+        scheduleRefresh(key, entry, loader);
+        return entry.value;
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 같은 항목은 동시에 하나의 갱신만 실행
+    private void scheduleRefresh(String key, Entry entry, Supplier<BookPricesResponse> loader) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    put(key, loader.get());
+                    refreshes.increment();
+                } catch (Exception e) {
+                    logger.warn("Price refresh failed for {}: {}", key, e.getMessage());
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    void put(String key, BookPricesResponse value) {
+        if (value == null) {
+            return;
+        }
+        boolean complete = value.getProviderStatus().values().stream()
+                .allMatch(status -> BookPriceService.STATUS_OK.equals(status)
+                        || BookPriceService.STATUS_NOT_FOUND.equals(status));
+        synchronized (entries) {
+            entries.put(key, new Entry(value, System.currentTimeMillis(), complete));
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPriceDTO;
+import com.example.ex02.Book.dto.BookPriceHistoryDTO;
+import com.example.ex02.Book.dto.BookPricesResponse;
+import com.example.ex02.Book.repository.BookPriceHistoryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 판매처 가격 이력 저장/조회 서비스
+@Service
+public class BookPriceHistoryService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String INSERT_SQL =
+            "INSERT INTO book_price_history (book_id, provider, price, link, status, fetched_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final BookPriceHistoryRepository bookPriceHistoryRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final long freshHours;
+
+    public BookPriceHistoryService(
+            BookPriceHistoryRepository bookPriceHistoryRepository,
+            JdbcTemplate jdbcTemplate,
+            @Value("${book.price.history.fresh-hours:24}") long freshHours
+    ) {
+        this.bookPriceHistoryRepository = bookPriceHistoryRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.freshHours = freshHours;
+    }
+
+    // 판매처 조회 결과 한 건 (한 번의 배치에서 같은 fetchedAt 을 공유)
+    public static final class Snapshot {
+        private final long bookId;
+        private final String provider;
+        private final BookPriceDTO price;
+        private final String status;
+
+        public Snapshot(long bookId, String provider, BookPriceDTO price, String status) {
+            this.bookId = bookId;
+            this.provider = provider;
+            this.price = price;
+            this.status = status;
+        }
+    }
+
+    // 최근 스냅샷이 충분히 새롭고 현재 판매처가 모두 정상 응답했으면 가격 응답으로 변환 (아니면 null)
+    public BookPricesResponse findFreshSnapshot(Long bookId, Collection<String> providerNames) {
+        List<Object[]> rows = bookPriceHistoryRepository.findLatestSnapshot(bookId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        LocalDateTime fetchedAt = (LocalDateTime) rows.get(0)[4];
+        if (fetchedAt.isBefore(LocalDateTime.now().minusHours(freshHours))) {
+            return null;
+        }
+
+        List<BookPriceDTO> prices = new ArrayList<>();
+        Map<String, String> status = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            String provider = (String) row[0];
+            String rowStatus = (String) row[3];
+            if (!BookPriceService.STATUS_OK.equals(rowStatus) && !BookPriceService.STATUS_NOT_FOUND.equals(rowStatus)) {
+                return null;
+            }
+            if (BookPriceService.STATUS_OK.equals(rowStatus)) {
+                prices.add(new BookPriceDTO(provider, (Integer) row[1], (String) row[2]));
+            }
+            status.put(provider, rowStatus);
+        }
+        // 행이 없는 판매처가 있으면 (배치 중단, 판매처 추가 등) 그 판매처가 빠진 응답이 되므로 사용하지 않음
+        if (!status.keySet().containsAll(providerNames)) {
+            return null;
+        }
+        return new BookPricesResponse(prices, status);
+    }
+
+    // 최근 N일 가격 이력
+    public List<BookPriceHistoryDTO> getHistory(Long bookId, int days) {
+        LocalDateTime since = LocalDateTime.now().minusDays(Math.max(1, days));
+        List<BookPriceHistoryDTO> result = new ArrayList<>();
+        for (Object[] row : bookPriceHistoryRepository.findHistorySince(bookId, since)) {
+            result.add(new BookPriceHistoryDTO(
+                    (String) row[0],
+                    (Integer) row[1],
+                    (String) row[2],
+                    (LocalDateTime) row[3]
+            ));
+        }
+        return result;
+    }
+
+    // 조회 결과를 BATCH_SIZE 단위 batch insert 로 저장
+    public void saveAll(List<Snapshot> snapshots, LocalDateTime fetchedAt) {
+        Timestamp timestamp = Timestamp.valueOf(fetchedAt);
+        for (int from = 0; from < snapshots.size(); from += BATCH_SIZE) {
+            List<Object[]> params = new ArrayList<>();
+            for (Snapshot snapshot : snapshots.subList(from, Math.min(snapshots.size(), from + BATCH_SIZE))) {
+                params.add(new Object[]{
+                        snapshot.bookId,
+                        snapshot.provider,
+                        snapshot.price != null ? snapshot.price.getPrice() : null,
+                        snapshot.price != null ? truncate(snapshot.price.getLink(), 500) : null,
+                        snapshot.status,
+                        timestamp
+                });
+            }
+            jdbcTemplate.batchUpdate(INSERT_SQL, params);
+        }
+    }
+
+    private String truncate(String value, int max) {
+        return value != null && value.length() > max ? value.substring(0, max) : value;
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPriceDTO;
+import com.example.ex02.Book.entity.BookEntity;
+import com.example.ex02.Book.provider.BookPriceProvider;
+import com.example.ex02.Book.repository.BookPriceHistoryRepository;
+import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.common.CallNotPermittedException;
+import com.example.ex02.common.HostRateLimiter;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// 북마크된 도서 가격을 하루에 걸쳐 조금씩 미리 수집해 이력 테이블에 저장하는 배치
+@Component
+public class BookPriceRefreshJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(BookPriceRefreshJob.class);
+    private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+    private final List<BookPriceProvider> providers;
+    private final BookRepository bookRepository;
+    private final BookPriceHistoryRepository bookPriceHistoryRepository;
+    private final BookPriceHistoryService bookPriceHistoryService;
+    private final HostRateLimiter rateLimiter;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final long sliceIntervalMillis;
+    private final long refreshHours;
+    private final int maxSliceSize;
+
+    public BookPriceRefreshJob(
+            List<BookPriceProvider> providers,
+            BookRepository bookRepository,
+            BookPriceHistoryRepository bookPriceHistoryRepository,
+            BookPriceHistoryService bookPriceHistoryService,
+            @Value("${book.price.history.enabled:true}") boolean enabled,
+            @Value("${book.price.history.slice-interval-ms:900000}") long sliceIntervalMillis,
+            @Value("${book.price.history.refresh-hours:20}") long refreshHours,
+            @Value("${book.price.history.max-slice:200}") int maxSliceSize,
+            @Value("${book.price.history.host-interval-ms:2000}") long hostIntervalMillis
+    ) {
+        this.providers = providers;
+        this.bookRepository = bookRepository;
+        this.bookPriceHistoryRepository = bookPriceHistoryRepository;
+        this.bookPriceHistoryService = bookPriceHistoryService;
+        this.enabled = enabled;
+        this.sliceIntervalMillis = sliceIntervalMillis;
+        this.refreshHours = refreshHours;
+        this.maxSliceSize = maxSliceSize;
+        this.rateLimiter = new HostRateLimiter(hostIntervalMillis);
+        // 판매처마다 스레드 하나 - 판매처(호스트)별 간격은 각자 지키면서 서로 기다리지 않음
+        this.executor = Executors.newFixedThreadPool(Math.max(1, providers.size()), runnable -> {
+            Thread thread = new Thread(runnable, "book-price-batch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 하루를 slice-interval 단위로 나눠, 매 회차마다 갱신이 필요한 도서 중 1/N 만 처리
+    @Scheduled(
+            fixedDelayString = "${book.price.history.slice-interval-ms:900000}",
+            initialDelayString = "${book.price.history.initial-delay-ms:120000}")
+    public void refreshSlice() {
+        if (!enabled || providers.isEmpty()) {
+            return;
+        }
+        long total = bookPriceHistoryRepository.countBookmarkedBooks();
+        if (total == 0) {
+            return;
+        }
+        long slicesPerDay = Math.max(1, DAY_MILLIS / sliceIntervalMillis);
+        int sliceSize = (int) Math.min(maxSliceSize, (total + slicesPerDay - 1) / slicesPerDay);
+
+        LocalDateTime since = LocalDateTime.now().minusHours(refreshHours);
+        List<Long> bookIds = bookPriceHistoryRepository.findBookmarkedBookIdsNotPricedSince(since, sliceSize);
+        if (bookIds.isEmpty()) {
+            return;
+        }
+        List<BookEntity> books = bookRepository.findAllById(bookIds);
+
+        long started = System.currentTimeMillis();
+        LocalDateTime fetchedAt = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        ConcurrentLinkedQueue<BookPriceHistoryService.Snapshot> results = new ConcurrentLinkedQueue<>();
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (BookPriceProvider provider : providers) {
+            workers.add(CompletableFuture.runAsync(() -> priceAll(provider, books, results), executor));
+        }
+        CompletableFuture.allOf(workers.toArray(new CompletableFuture<?>[0])).join();
+
+        bookPriceHistoryService.saveAll(new ArrayList<>(results), fetchedAt);
+        logger.info("Price batch: {} books, {} rows in {}ms ({} bookmarked books total)",
+                books.size(), results.size(), System.currentTimeMillis() - started, total);
+    }
+
+    // 한 판매처에 대해 도서들을 순서대로 조회 (호출 사이 호스트 간격 유지)
+    private void priceAll(BookPriceProvider provider, List<BookEntity> books,
+                          ConcurrentLinkedQueue<BookPriceHistoryService.Snapshot> results) {
+        for (int i = 0; i < books.size(); i++) {
+            BookEntity book = books.get(i);
+            try {
+                rateLimiter.acquire(provider.getName());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            BookPriceDTO price = null;
+            String status;
+            try {
+                price = provider.getPrice(book.getIsbn(), book.getTitle());
+                status = price != null ? BookPriceService.STATUS_OK : BookPriceService.STATUS_NOT_FOUND;
+            } catch (CallNotPermittedException e) {
+                // 서킷이 열려 있으면 이번 회차의 남은 도서는 이 판매처를 호출하지 않고 ERROR 행만 남김
+                // (행이 없으면 다른 판매처 행만으로 새 스냅샷이 되어 이 판매처가 빠진 채 제공됨)
+                logger.info("Price batch: {} skipped for the rest of this slice: {}", provider.getName(), e.getMessage());
+                for (BookEntity skipped : books.subList(i, books.size())) {
+                    results.add(new BookPriceHistoryService.Snapshot(
+                            skipped.getBookId(), provider.getName(), null, BookPriceService.STATUS_ERROR));
+                }
+                return;
+            } catch (Exception e) {
+                logger.warn("Price batch: {} failed for book {}: {}", provider.getName(), book.getBookId(), e.getMessage());
+                status = BookPriceService.STATUS_ERROR;
+            }
+            results.add(new BookPriceHistoryService.Snapshot(book.getBookId(), provider.getName(), price, status));
+        }
+    }
+}
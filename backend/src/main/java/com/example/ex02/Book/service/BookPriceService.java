@@ -1,43 +1,395 @@
 package com.example.ex02.Book.service;
 
 import com.example.ex02.Book.dto.BookPriceDTO;
+import com.example.ex02.Book.dto.BookPricesResponse;
 import com.example.ex02.Book.entity.BookEntity;
 import com.example.ex02.Book.provider.BookPriceProvider;
 import com.example.ex02.Book.repository.BookRepository;
-import lombok.RequiredArgsConstructor;
+import com.example.ex02.Book.util.IsbnUtils;
+import com.example.ex02.common.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
-// 판매처별 가격 조회 서비스
+// 판매처별 가격 조회 서비스 (배치 스냅샷 + ISBN 캐시 + 판매처 동시 조회 + 요청 단위 마감 시간)
 @Service
-@RequiredArgsConstructor
 public class BookPriceService {
 
+    private static final Logger logger = LoggerFactory.getLogger(BookPriceService.class);
+
+    static final String STATUS_OK = "OK";
+    static final String STATUS_NOT_FOUND = "NOT_FOUND";
+    static final String STATUS_TIMEOUT = "TIMEOUT";
+    static final String STATUS_ERROR = "ERROR";
+    // SSE 연결은 판매처 마감 시간보다 조금 더 유지
+    private static final long STREAM_TIMEOUT_MARGIN_MS = 2000;
+
     private final List<BookPriceProvider> providers;
     private final BookRepository bookRepository;
+    private final BookPriceCache bookPriceCache;
+    private final BookPriceHistoryService bookPriceHistoryService;
+    private final long deadlineMillis;
+    private final ThreadPoolExecutor executor;
+    private final SingleFlight<String, BookPricesResponse> priceFlight;
+    // 진행 중인 SSE 조회 (같은 키로 들어온 다른 시청자가 도착한 가격부터 이어 받음)
+    private final Map<String, LiveLookup> liveLookups = new ConcurrentHashMap<>();
 
-    @Transactional(readOnly = true)
-    // 도서 ID 기준으로 각 판매처 가격 수집
-    public List<BookPriceDTO> getPrices(Long bookId, String titleOverride) {
-        BookEntity book = bookRepository.findById(bookId)
-                .orElseThrow(() -> new RuntimeException("Book not found with id: " + bookId));
+    public BookPriceService(
+            List<BookPriceProvider> providers,
+            BookRepository bookRepository,
+            BookPriceCache bookPriceCache,
+            BookPriceHistoryService bookPriceHistoryService,
+            MeterRegistry meterRegistry,
+            @Value("${book.price.deadline-ms:6000}") long deadlineMillis,
+            @Value("${book.price.max-threads:12}") int maxThreads
+    ) {
+        this.providers = providers;
+        this.bookRepository = bookRepository;
+        this.bookPriceCache = bookPriceCache;
+        this.bookPriceHistoryService = bookPriceHistoryService;
+        this.deadlineMillis = deadlineMillis;
+        this.priceFlight = new SingleFlight<>("book.price", meterRegistry);
+
+        // 판매처 조회 전용 풀 (대기열도 제한해서 폭주 시 즉시 ERROR 처리)
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                maxThreads, maxThreads,
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(maxThreads * 8),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "book-price-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // 도서 ID 기준으로 각 판매처 가격을 동시에 수집 (마감 시간까지 응답한 판매처만 반환)
+    public BookPricesResponse getPrices(Long bookId, String titleOverride) {
+        BookEntity book = findBook(bookId);
+        String isbn = book.getIsbn();
+        String title = resolveTitle(book, titleOverride);
+
+        BookPricesResponse snapshot = findSnapshot(book, title);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        String cacheKey = cacheKeyOf(book, title);
+        // 캐시 미스/갱신이 동시에 몰려도 같은 키의 판매처 조회는 한 번만
+        return bookPriceCache.get(cacheKey,
+                () -> priceFlight.execute(cacheKey, () -> fetchPrices(bookId, isbn, title)));
+    }
 
+    // 판매처 가격을 응답이 오는 순서대로 SSE 로 전송 (price 이벤트 N회 후 complete 이벤트 1회)
+    public SseEmitter streamPrices(Long bookId, String titleOverride) {
+        BookEntity book = findBook(bookId);
         String isbn = book.getIsbn();
-        String title = (titleOverride != null && !titleOverride.isBlank())
+        String title = resolveTitle(book, titleOverride);
+        String cacheKey = cacheKeyOf(book, title);
+
+        PriceStream stream = new PriceStream(new SseEmitter(deadlineMillis + STREAM_TIMEOUT_MARGIN_MS));
+
+        // 스냅샷/캐시에 있으면 한 번에 보내고 종료 (만료된 캐시 값도 먼저 보내고 갱신은 getPrices 와 같은 경로로 백그라운드에서)
+        BookPricesResponse ready = findSnapshot(book, title);
+        if (ready == null) {
+            ready = bookPriceCache.getOrRefresh(cacheKey,
+                    () -> priceFlight.execute(cacheKey, () -> fetchPrices(bookId, isbn, title)));
+        }
+        if (ready != null) {
+            ready.getPrices().forEach(stream::sendPrice);
+            stream.complete(ready);
+            return stream.emitter;
+        }
+
+        // 같은 키의 조회가 진행 중이면 (SSE/일반 조회 모두) 새로 스크래핑하지 않고 그 결과를 함께 받음
+        AtomicReference<LiveLookup> started = new AtomicReference<>();
+        CompletableFuture<BookPricesResponse> result = priceFlight.executeAsync(cacheKey, () -> {
+            LiveLookup lookup = new LiveLookup();
+            started.set(lookup);
+            liveLookups.put(cacheKey, lookup);
+            return startLiveLookup(lookup, cacheKey, bookId, isbn, title);
+        });
+        LiveLookup lookup = started.get() != null ? started.get() : liveLookups.get(cacheKey);
+
+        // 진행 중인 SSE 조회에 붙으면 이미 도착한 가격부터 받고, 아니면 (일반 조회에 합류) 끝난 뒤 한 번에 받음
+        boolean attached = lookup != null && lookup.attach(stream);
+        if (attached) {
+            stream.onClose(() -> {
+                if (!stream.isCompleted()) {
+                    lookup.detach(stream);
+                }
+            });
+        }
+
+        result.whenComplete((response, error) -> {
+            if (error != null) {
+                logger.warn("Price lookup failed for book {}", bookId, error);
+                Map<String, String> failed = new LinkedHashMap<>();
+                providers.forEach(provider -> failed.put(provider.getName(), STATUS_ERROR));
+                response = new BookPricesResponse(List.of(), failed);
+            } else if (!attached) {
+                response.getPrices().forEach(stream::sendPrice);
+            }
+            stream.complete(response);
+        });
+        return stream.emitter;
+    }
+
+    // 모든 판매처를 동시에 조회하면서 응답이 오는 대로 시청자들에게 전달
+    private CompletableFuture<BookPricesResponse> startLiveLookup(
+            LiveLookup lookup, String cacheKey, Long bookId, String isbn, String title) {
+        Map<String, String> status = new ConcurrentHashMap<>();
+        List<BookPriceDTO> prices = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<Void>> handled = new ArrayList<>();
+        for (BookPriceProvider provider : providers) {
+            String name = provider.getName();
+            // 결과 전달은 CompletableFuture, 중단은 submit 의 Future (cancel(true) 로 작업 스레드 interrupt)
+            CompletableFuture<BookPriceDTO> result = new CompletableFuture<>();
+            Future<?> task;
+            try {
+                task = executor.submit(() -> {
+                    try {
+                        result.complete(provider.getPrice(isbn, title));
+                    } catch (RuntimeException e) {
+                        result.completeExceptionally(e);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                status.put(name, STATUS_ERROR);
+                continue;
+            }
+            lookup.tasks.add(task);
+            handled.add(result.orTimeout(deadlineMillis, TimeUnit.MILLISECONDS).handle((dto, error) -> {
+                if (error != null) {
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause()
+                            : error;
+                    if (cause instanceof TimeoutException) {
+                        task.cancel(true);
+                    } else {
+                        logger.warn("Price provider {} failed for book {}", name, bookId, cause);
+                    }
+                    status.put(name, cause instanceof TimeoutException ? STATUS_TIMEOUT : STATUS_ERROR);
+                } else if (dto != null) {
+                    prices.add(dto);
+                    status.put(name, STATUS_OK);
+                    lookup.publish(dto);
+                } else {
+                    status.put(name, STATUS_NOT_FOUND);
+                }
+                return null;
+            }));
+        }
+
+        return CompletableFuture.allOf(handled.toArray(new CompletableFuture<?>[0])).handle((ignored, error) -> {
+            liveLookups.remove(cacheKey, lookup);
+            Map<String, String> ordered = new LinkedHashMap<>();
+            for (BookPriceProvider provider : providers) {
+                ordered.put(provider.getName(), status.getOrDefault(provider.getName(), STATUS_ERROR));
+            }
+            BookPricesResponse response = new BookPricesResponse(new ArrayList<>(prices), ordered);
+            // 시청자가 모두 떠나 중단된 결과는 캐시에 남기지 않음
+            if (!lookup.isAbandoned()) {
+                bookPriceCache.put(cacheKey, response);
+            }
+            return response;
+        });
+    }
+
+    private BookEntity findBook(Long bookId) {
+        return bookRepository.findById(bookId)
+                .orElseThrow(() -> new RuntimeException("Book not found with id: " + bookId));
+    }
+
+    private String resolveTitle(BookEntity book, String titleOverride) {
+        return (titleOverride != null && !titleOverride.isBlank())
                 ? titleOverride
                 : book.getTitle();
+    }
 
-        List<BookPriceDTO> result = new ArrayList<>();
+    // 배치로 미리 수집한 스냅샷이 충분히 새로우면 스크래핑 없이 사용
+    private BookPricesResponse findSnapshot(BookEntity book, String title) {
+        if (title == null || !title.equals(book.getTitle())) {
+            return null;
+        }
+        List<String> providerNames = providers.stream().map(BookPriceProvider::getName).toList();
+        return bookPriceHistoryService.findFreshSnapshot(book.getBookId(), providerNames);
+    }
 
+    // ISBN-13 기준으로 캐시 (ISBN 이 없으면 제목 기준)
+    private String cacheKeyOf(BookEntity book, String title) {
+        String isbn13 = book.getIsbn13() != null ? book.getIsbn13() : IsbnUtils.toIsbn13(book.getIsbn());
+        return isbn13 != null
+                ? "isbn:" + isbn13
+                : "title:" + (title == null ? "" : title.trim().toLowerCase(Locale.ROOT));
+    }
+
+    // 모든 판매처를 동시에 조회하고 마감 시간까지 응답한 결과만 모음
+    private BookPricesResponse fetchPrices(Long bookId, String isbn, String title) {
+        // submit 의 Future 를 취소해야 마감 시간을 넘긴 작업 스레드가 interrupt 되어 풀/bulkhead 자리를 돌려줌
+        Map<String, Future<BookPriceDTO>> futures = new LinkedHashMap<>();
+        Map<String, String> status = new LinkedHashMap<>();
         for (BookPriceProvider provider : providers) {
-            BookPriceDTO dto = provider.getPrice(isbn, title);
-            if (dto != null) {
-                result.add(dto);
+            try {
+                futures.put(provider.getName(), executor.submit(() -> provider.getPrice(isbn, title)));
+            } catch (RejectedExecutionException e) {
+                status.put(provider.getName(), STATUS_ERROR);
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMillis);
+        List<BookPriceDTO> result = new ArrayList<>();
+        for (Map.Entry<String, Future<BookPriceDTO>> entry : futures.entrySet()) {
+            String name = entry.getKey();
+            Future<BookPriceDTO> future = entry.getValue();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                BookPriceDTO dto = future.get(remaining, TimeUnit.NANOSECONDS);
+                if (dto != null) {
+                    result.add(dto);
+                    status.put(name, STATUS_OK);
+                } else {
+                    status.put(name, STATUS_NOT_FOUND);
+                }
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                status.put(name, STATUS_TIMEOUT);
+            } catch (ExecutionException e) {
+                logger.warn("Price provider {} failed for book {}", name, bookId, e.getCause());
+                status.put(name, STATUS_ERROR);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                status.put(name, STATUS_ERROR);
+            }
+        }
+        return new BookPricesResponse(result, status);
+    }
+
+    // 여러 시청자가 공유하는 SSE 조회 (모든 시청자가 떠나면 남은 판매처 조회를 중단)
+    private static final class LiveLookup {
+        private final List<Future<?>> tasks = new CopyOnWriteArrayList<>();
+        private final List<BookPriceDTO> prices = new ArrayList<>();
+        private final List<PriceStream> viewers = new ArrayList<>();
+        private boolean abandoned;
+
+        // 이미 도착한 가격을 먼저 보내고 이후 가격을 받도록 등록 (이미 중단된 조회면 false)
+        private synchronized boolean attach(PriceStream stream) {
+            if (abandoned) {
+                return false;
+            }
+            prices.forEach(stream::sendPrice);
+            viewers.add(stream);
+            return true;
+        }
+
+        private synchronized void publish(BookPriceDTO price) {
+            prices.add(price);
+            viewers.forEach(viewer -> viewer.sendPrice(price));
+        }
+
+        private void detach(PriceStream stream) {
+            synchronized (this) {
+                viewers.remove(stream);
+                if (!viewers.isEmpty() || abandoned) {
+                    return;
+                }
+                abandoned = true;
+            }
+            tasks.forEach(task -> task.cancel(true));
+        }
+
+        private synchronized boolean isAbandoned() {
+            return abandoned;
+        }
+    }
+
+    // 여러 판매처 스레드에서 동시에 보내므로 전송을 직렬화하고, 끊긴 연결에는 더 보내지 않음
+    private static final class PriceStream {
+        private final SseEmitter emitter;
+        private boolean closed;
+        private volatile boolean completed;
+        private volatile Runnable closeListener = () -> { };
+
+        private PriceStream(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(this::markClosed);
+            emitter.onTimeout(this::markClosed);
+            emitter.onError(error -> markClosed());
+        }
+
+        private void onClose(Runnable listener) {
+            this.closeListener = listener;
+        }
+
+        private void markClosed() {
+            synchronized (this) {
+                closed = true;
+            }
+            closeListener.run();
+        }
+
+        private synchronized void sendPrice(BookPriceDTO price) {
+            send(SseEmitter.event().name("price").data(price, MediaType.APPLICATION_JSON));
+        }
+
+        private boolean isCompleted() {
+            return completed;
+        }
+
+        private synchronized void complete(BookPricesResponse response) {
+            completed = true;
+            send(SseEmitter.event().name("complete").data(response, MediaType.APPLICATION_JSON));
+            if (!closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+
+        private void send(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊은 경우 (남은 조회도 중단)
+                closed = true;
+                closeListener.run();
             }
         }
-        return result;
     }
 }
@@ -2,14 +2,30 @@ package com.example.ex02.Book.service;
 
 import com.example.ex02.Book.dto.BookDTO;
 import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.dto.BookListItemDTO;
+import com.example.ex02.Book.dto.BookPageDTO;
+import com.example.ex02.Book.dto.BookSuggestionDTO;
 import com.example.ex02.Book.entity.BookEntity;
 import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.search.BookCatalogIndexer;
+import com.example.ex02.Book.search.BookSearchIndex;
+import com.example.ex02.Book.search.BookSpellSuggester;
+import com.example.ex02.Book.search.BookSuggestIndex;
+import com.example.ex02.Book.search.HangulSearchIndex;
+import com.example.ex02.Book.util.BookCursor;
+import com.example.ex02.Book.util.HangulJamo;
+import com.example.ex02.Book.util.IsbnUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.annotation.Propagation;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -17,14 +33,46 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class BookService {
 
+    private static final int SEARCH_LIMIT = 50;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final BookRepository bookRepository;
     private final BookUpsertService bookUpsertService;
+    private final BookSearchIndex bookSearchIndex;
+    private final HangulSearchIndex hangulSearchIndex;
+    private final BookSuggestIndex bookSuggestIndex;
+    private final BookSpellSuggester bookSpellSuggester;
+    private final BookCatalogIndexer bookCatalogIndexer;
+    private final AiSummaryStore aiSummaryStore;
+
+    // 키셋(book_id) 기반 목록/검색 페이지 조회 - summary 없이 경량 DTO 로 반환
+    public BookPageDTO getBookPage(String query, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Long decoded = BookCursor.decode(cursor);
+        long before = decoded == null ? Long.MAX_VALUE : decoded;
+        String trimmed = query == null ? "" : query.trim();
 
-    // 도서 전체 조회
-    public List<BookDTO> getAllBooks() {
-        return bookRepository.findAll().stream()
-                .map(this::convertToDTO)
-                .collect(Collectors.toList());
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<BookListItemDTO> items;
+        if (trimmed.isEmpty()) {
+            items = bookRepository.findListItemsBefore(before, PageRequest.of(0, pageSize + 1));
+        } else {
+            List<Long> ids = bookSearchIndex.isReady()
+                    ? bookSearchIndex.search(trimmed, before, pageSize + 1)
+                    : bookRepository.findIdsByKeywordBefore(trimmed, before, pageSize + 1);
+            items = findListItemsInOrder(ids);
+        }
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = BookCursor.encode(items.get(pageSize - 1).getBookId());
+        }
+        // 첫 페이지부터 결과가 없으면 철자 교정 제안
+        String suggestion = items.isEmpty() && decoded == null && !trimmed.isEmpty()
+                ? bookSpellSuggester.suggest(trimmed)
+                : null;
+        return new BookPageDTO(new ArrayList<>(items), nextCursor, suggestion);
     }
 
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
@@ -33,11 +81,13 @@ public class BookService {
             return;
         }
 
+        // 이미 적재 확인된 ISBN 은 DB 조회 없이 건너뛰고, 나머지만 한 번에 적재
+        List<BookEntity> pending = new ArrayList<>();
         for (BestsellerItemDTO item : items) {
             if (item == null) continue;
-            String isbn = normalizeIsbn(item.getIsbn13());
-            if (isbn.isBlank()) continue;
-            if (bookRepository.existsByIsbnNormalized(isbn)) continue;
+            String isbn = IsbnUtils.toIsbn13(item.getIsbn13());
+            if (isbn == null) continue;
+            if (bookUpsertService.isIngested(isbn)) continue;
 
             BookEntity book = new BookEntity();
             book.setIsbn(isbn);
@@ -45,11 +95,14 @@ public class BookService {
             book.setAuthor(item.getAuthor());
             book.setPublisher(item.getPublisher());
             book.setImageUrl(item.getCover());
-            bookUpsertService.saveIfAbsent(book);
+            pending.add(book);
+        }
+        if (!pending.isEmpty()) {
+            bookUpsertService.saveAllIfAbsent(pending);
         }
     }
 
-    // 제목/ISBN/저자/출판사 검색 - DB 레벨에서 LIMIT 50 적용 (성능 최적화)
+    // 제목/ISBN/저자/출판사 검색 - 메모리 n-gram 인덱스 후보를 BM25 로 정렬해 상위 50건만 DB 조회
     public List<BookDTO> searchBooks(String query) {
         String trimmed = query == null ? "" : query.trim();
         
@@ -58,14 +111,47 @@ public class BookService {
             return List.of();
         }
 
-        // DB에서 LIMIT 50 적용된 쿼리 사용 (성능 대폭 개선)
-        List<BookEntity> results = bookRepository.findByKeywordLimited(trimmed);
-        
-        return results.stream()
+        // ISBN 형태면 isbn13 유니크 인덱스로 바로 조회
+        String isbn13 = IsbnUtils.toIsbn13(trimmed);
+        if (isbn13 != null) {
+            BookEntity exact = bookRepository.findByIsbn13(isbn13).orElse(null);
+            if (exact != null) {
+                return List.of(convertToDTO(exact));
+            }
+        }
+
+        // 인덱스 구성 전(기동 직후)에는 기존 DB 쿼리로 처리
+        if (!bookSearchIndex.isReady()) {
+            return bookRepository.findByKeywordLimited(trimmed, isbn13).stream()
+                    .map(this::convertToDTO)
+                    .collect(Collectors.toList());
+        }
+
+        // 초성만 입력("ㅎㄹㅍㅌ")했으면 초성 인덱스, 일반 검색 결과가 없으면 자모 분해 인덱스로 재시도
+        List<Long> ids;
+        if (HangulJamo.isChosungQuery(trimmed)) {
+            ids = hangulSearchIndex.search(trimmed, SEARCH_LIMIT);
+        } else {
+            ids = bookSearchIndex.searchRanked(trimmed, SEARCH_LIMIT);
+            if (ids.isEmpty() && HangulJamo.containsHangul(trimmed)) {
+                ids = hangulSearchIndex.search(trimmed, SEARCH_LIMIT);
+            }
+        }
+        return findAllInOrder(ids).stream()
                 .map(this::convertToDTO)
                 .collect(Collectors.toList());
     }
 
+    // 검색어 자동완성 - 메모리 접두어 트라이만 조회 (DB 미사용)
+    public List<BookSuggestionDTO> suggestBooks(String prefix, int limit) {
+        return bookSuggestIndex.suggest(prefix, limit);
+    }
+
+    // 검색 결과가 없을 때 보여줄 "이것을 찾으셨나요?" 제안어 (없으면 null)
+    public String suggestCorrection(String query) {
+        return bookSpellSuggester.suggest(query);
+    }
+
     // 도서 ID 조회
     public BookDTO getBookById(Long id) {
         BookEntity book = bookRepository.findById(id)
@@ -79,6 +165,7 @@ public class BookService {
         BookEntity book = new BookEntity();
         updateEntityFromDTO(book, dto);
         BookEntity saved = bookRepository.save(book);
+        bookCatalogIndexer.index(saved);
         return convertToDTO(saved);
     }
 
@@ -87,18 +174,52 @@ public class BookService {
     public BookDTO updateBook(Long id, BookDTO dto) {
         BookEntity book = bookRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Book not found with id: " + id));
+        String previousIsbn13 = book.getIsbn13();
         updateEntityFromDTO(book, dto);
         BookEntity saved = bookRepository.save(book);
+        // isbn13 컬럼은 flush 시점(@PreUpdate)에 갱신되므로 ISBN 으로 직접 비교
+        if (!Objects.equals(previousIsbn13, IsbnUtils.toIsbn13(saved.getIsbn()))) {
+            bookUpsertService.forget(previousIsbn13);
+        }
+        // 요약은 도서 정보로 만들어지므로 수정되면 저장된 요약을 버리고 다음 조회 때 다시 생성
+        aiSummaryStore.evict(id);
+        bookCatalogIndexer.index(saved);
         return convertToDTO(saved);
     }
 
     // 도서 삭제
     @Transactional
     public void deleteBook(Long id) {
-        if (!bookRepository.existsById(id)) {
-            throw new RuntimeException("Book not found with id: " + id);
+        BookEntity book = bookRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Book not found with id: " + id));
+        bookRepository.delete(book);
+        bookUpsertService.forget(book.getIsbn13());
+        bookCatalogIndexer.remove(id);
+    }
+
+    // ID 목록 순서를 유지한 채 일괄 조회
+    private List<BookEntity> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
         }
-        bookRepository.deleteById(id);
+        Map<Long, BookEntity> byId = bookRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(BookEntity::getBookId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<BookListItemDTO> findListItemsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BookListItemDTO> byId = bookRepository.findListItemsByIdIn(ids).stream()
+                .collect(Collectors.toMap(BookListItemDTO::getBookId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     // DTO -> Entity 필드 매핑
@@ -127,9 +248,4 @@ public class BookService {
         dto.setAges(book.getAges());
         return dto;
     }
-
-    private String normalizeIsbn(String isbn) {
-        if (isbn == null) return "";
-        return isbn.replaceAll("[^0-9Xx]", "");
-    }
 }
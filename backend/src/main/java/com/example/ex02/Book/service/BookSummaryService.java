@@ -5,14 +5,15 @@ import com.example.ex02.Book.dto.BookSummaryResponse;
 import com.example.ex02.Book.external.Data4LibraryBookInfo;
 import com.example.ex02.Book.external.Data4LibraryClient;
 import com.example.ex02.Book.llm.LlmSummaryClient;
-import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-// LLM 기반 도서 요약 생성 서비스
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// LLM 기반 도서 요약 생성 서비스 (생성한 요약은 템플릿/모델 단위로 저장해 재사용)
 @Service
-@RequiredArgsConstructor
 public class BookSummaryService {
 
     private static final Logger logger = LoggerFactory.getLogger(BookSummaryService.class);
@@ -20,14 +21,49 @@ public class BookSummaryService {
     private static final String FALLBACK_SUMMARY =
             "요약 생성에 실패했습니다. 잠시 후 다시 시도해주세요.";
 
+    // 요약 지시문 (내용이 바뀌면 프롬프트 해시가 달라져 저장된 요약을 새로 생성)
+    private static final String PROMPT_INSTRUCTIONS =
+            "아래는 한 권의 책에 대한 소개 자료다.\n"
+            + "이 책을 아직 읽지 않은 이용자가\n"
+            + "'이 책을 꼭 읽어보고 싶다'고 느끼도록\n"
+            + "흥미롭고 감정이 살아 있는 줄거리 요약을 작성해라.\n\n"
+            + "조건:\n"
+            + "- 반드시 4~6문장\n"
+            + "- 스포일러 금지\n"
+            + "- 평서문 위주\n"
+            + "- 광고 문구처럼 과장하지 말 것\n"
+            + "- 독자가 책을 통해 얻을 수 있는 변화나 통찰을 강조할 것\n\n";
+
     private final BookService bookService;
     private final LlmSummaryClient llmSummaryClient;
     private final Data4LibraryClient data4LibraryClient;
+    private final AiSummaryStore aiSummaryStore;
+    private final String promptHash;
 
-    // 도서 ID 기준 요약 생성(데이터 보강 + LLM 호출)
+    public BookSummaryService(
+            BookService bookService,
+            LlmSummaryClient llmSummaryClient,
+            Data4LibraryClient data4LibraryClient,
+            AiSummaryStore aiSummaryStore
+    ) {
+        this.bookService = bookService;
+        this.llmSummaryClient = llmSummaryClient;
+        this.data4LibraryClient = data4LibraryClient;
+        this.aiSummaryStore = aiSummaryStore;
+        this.promptHash = sha256(PROMPT_INSTRUCTIONS + "\n" + llmSummaryClient.getModel());
+    }
+
+    // 도서 ID 기준 요약 조회 (저장본 우선, 없으면 데이터 보강 + LLM 호출 후 저장)
     public BookSummaryResponse getSummary(Long bookId) {
 
         BookDTO book = bookService.getBookById(bookId);
+
+        // 같은 템플릿/모델로 만든 요약이 있으면 외부 호출 없이 응답
+        String stored = aiSummaryStore.find(bookId, promptHash);
+        if (stored != null) {
+            return new BookSummaryResponse(bookId, book.getTitle(), stored);
+        }
+
         Data4LibraryBookInfo info = data4LibraryClient.fetchByIsbn13(book.getIsbn());
 
         String prompt = buildPrompt(book, info);
@@ -35,8 +71,15 @@ public class BookSummaryService {
         String summary = llmSummaryClient.summarize(prompt);
 
         if (summary == null || summary.isBlank()) {
+            // 실패 안내 문구는 저장하지 않음 (다음 요청에서 다시 생성)
             logger.warn("Summary fallback used for bookId={}", bookId);
             summary = FALLBACK_SUMMARY;
+        } else {
+            try {
+                aiSummaryStore.save(bookId, promptHash, llmSummaryClient.getModel(), summary);
+            } catch (Exception e) {
+                logger.warn("Summary save failed for bookId={}: {}", bookId, e.getMessage());
+            }
         }
 
         return new BookSummaryResponse(
@@ -62,17 +105,7 @@ public class BookSummaryService {
                 ? info.getDescription()
                 : book.getSummary();
 
-        StringBuilder sb = new StringBuilder();
-        sb.append("아래는 한 권의 책에 대한 소개 자료다.\n");
-        sb.append("이 책을 아직 읽지 않은 이용자가\n");
-        sb.append("'이 책을 꼭 읽어보고 싶다'고 느끼도록\n");
-        sb.append("흥미롭고 감정이 살아 있는 줄거리 요약을 작성해라.\n\n");
-        sb.append("조건:\n");
-        sb.append("- 반드시 4~6문장\n");
-        sb.append("- 스포일러 금지\n");
-        sb.append("- 평서문 위주\n");
-        sb.append("- 광고 문구처럼 과장하지 말 것\n");
-        sb.append("- 독자가 책을 통해 얻을 수 있는 변화나 통찰을 강조할 것\n\n");
+        StringBuilder sb = new StringBuilder(PROMPT_INSTRUCTIONS);
         sb.append("제목: ").append(nullToEmpty(title)).append('\n');
         sb.append("저자: ").append(nullToEmpty(authors)).append('\n');
         sb.append("출판사: ").append(nullToEmpty(publisher)).append('\n');
@@ -85,6 +118,21 @@ public class BookSummaryService {
         return sb.toString();
     }
 
+    // 프롬프트 템플릿 + 모델 해시 (ai_summary 키)
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(hashed.length * 2);
+            for (byte b : hashed) {
+                builder.append(String.format("%02x", b));
+            }
+            return builder.toString();
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 hashing failed", e);
+        }
+    }
+
     // null 방지 유틸
     private String nullToEmpty(String value) {
         return value == null ? "" : value;
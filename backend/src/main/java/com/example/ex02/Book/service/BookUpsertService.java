@@ -1,32 +1,119 @@
 package com.example.ex02.Book.service;
 
 import com.example.ex02.Book.entity.BookEntity;
+import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.search.BookCatalogIndexer;
+import com.example.ex02.Book.util.IsbnUtils;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 @RequiredArgsConstructor
 public class BookUpsertService {
 
+    // 프로세스 내 "이미 적재 확인된 ISBN" 기억 상한 (넘으면 비우고 다시 채움)
+    private static final int INGESTED_CACHE_LIMIT = 10_000;
+
     @PersistenceContext
     private EntityManager entityManager;
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void saveIfAbsent(BookEntity book) {
-        // MySQL 호환: INSERT IGNORE (isbn이 중복이면 무시)
-        entityManager.createNativeQuery("""
-            INSERT IGNORE INTO book (isbn, title, author, publisher, image_url)
-            VALUES (?, ?, ?, ?, ?)
-        """)
-            .setParameter(1, book.getIsbn())
-            .setParameter(2, book.getTitle())
-            .setParameter(3, book.getAuthor())
-            .setParameter(4, book.getPublisher())
-            .setParameter(5, book.getImageUrl())
-            .executeUpdate();
+    private final BookRepository bookRepository;
+    private final BookCatalogIndexer bookCatalogIndexer;
+
+    private final Set<String> ingestedIsbns = ConcurrentHashMap.newKeySet();
+
+    // 이미 DB 존재가 확인된 ISBN-13 인지 (DB 조회 없이 판단)
+    public boolean isIngested(String isbn13) {
+        return isbn13 != null && ingestedIsbns.contains(isbn13);
+    }
+
+    // 삭제되거나 ISBN 이 바뀐 도서는 다음 적재 때 DB 를 다시 확인하도록 기억에서 제거
+    public void forget(String isbn13) {
+        if (isbn13 != null) {
+            ingestedIsbns.remove(isbn13);
+        }
+    }
+
+    // 여러 도서를 한 트랜잭션에서 적재 (IN 조회 1회 + 다중 행 INSERT IGNORE 1회)
+    @Transactional
+    public int saveAllIfAbsent(List<BookEntity> books) {
+        Map<String, BookEntity> candidates = new LinkedHashMap<>();
+        for (BookEntity book : books) {
+            String isbn13 = IsbnUtils.toIsbn13(book.getIsbn());
+            if (isbn13 == null || isIngested(isbn13)) continue;
+            candidates.putIfAbsent(isbn13, book);
+        }
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> existing = new HashSet<>(bookRepository.findExistingIsbn13(candidates.keySet()));
+        List<String> missing = new ArrayList<>();
+        for (String isbn13 : candidates.keySet()) {
+            if (!existing.contains(isbn13)) {
+                missing.add(isbn13);
+            }
+        }
+
+        int inserted = 0;
+        if (!missing.isEmpty()) {
+            inserted = insertIgnore(missing, candidates);
+        }
+        if (inserted > 0) {
+            // 새로 들어간 행만 다시 읽어 검색 인덱스에 반영
+            bookRepository.findByIsbn13In(missing).forEach(bookCatalogIndexer::index);
+        }
+
+        markIngestedAfterCommit(candidates.keySet());
+        return inserted;
+    }
+
+    // MySQL 호환: 다중 행 INSERT IGNORE (isbn13 유니크 인덱스 중복이면 무시)
+    private int insertIgnore(List<String> isbns, Map<String, BookEntity> books) {
+        StringBuilder sql = new StringBuilder(
+                "INSERT IGNORE INTO book (isbn, isbn13, title, author, publisher, image_url) VALUES ");
+        for (int i = 0; i < isbns.size(); i++) {
+            sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?)");
+        }
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
+        for (String isbn13 : isbns) {
+            BookEntity book = books.get(isbn13);
+            query.setParameter(position++, book.getIsbn());
+            query.setParameter(position++, isbn13);
+            query.setParameter(position++, book.getTitle());
+            query.setParameter(position++, book.getAuthor());
+            query.setParameter(position++, book.getPublisher());
+            query.setParameter(position++, book.getImageUrl());
+        }
+        return query.executeUpdate();
+    }
+
+    private void markIngestedAfterCommit(Set<String> isbns) {
+        List<String> snapshot = List.copyOf(isbns);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                if (ingestedIsbns.size() + snapshot.size() > INGESTED_CACHE_LIMIT) {
+                    ingestedIsbns.clear();
+                }
+                ingestedIsbns.addAll(snapshot);
+            }
+        });
     }
 }
@@ -1,22 +1,17 @@
 package com.example.ex02.Book.service;
 
 import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.parser.Data4LibraryLoanParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.NodeList;
-import org.xml.sax.InputSource;
 
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -61,54 +56,17 @@ public class Data4LibraryLoanRankingService {
                     .build(true)
                     .toUriString();
 
-            String xml = restTemplate.getForObject(url, String.class);
-            if (xml == null || xml.isBlank()) {
-                logger.warn("Data4Library loan ranking returned empty response");
+            // 응답 본문을 문자열로 모으지 않고 스트림 그대로 파싱
+            List<BestsellerItemDTO> results = restTemplate.execute(url, HttpMethod.GET, null,
+                    response -> Data4LibraryLoanParser.parse(response.getBody()));
+            if (results == null || results.isEmpty()) {
+                logger.warn("Data4Library loan ranking returned no items");
                 return Collections.emptyList();
             }
-
-            return parseXml(xml);
+            return results;
         } catch (Exception e) {
             logger.error("Data4Library loan ranking fetch failed: {}", e.getMessage(), e);
             return Collections.emptyList();
         }
     }
-
-    // XML 응답 파싱
-    private List<BestsellerItemDTO> parseXml(String xml) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(false);
-        Document doc = factory.newDocumentBuilder()
-                .parse(new InputSource(new StringReader(xml)));
-
-        NodeList docNodes = doc.getElementsByTagName("doc");
-        if (docNodes == null || docNodes.getLength() == 0) {
-            return Collections.emptyList();
-        }
-
-        List<BestsellerItemDTO> results = new ArrayList<>();
-        for (int i = 0; i < docNodes.getLength() && results.size() < 10; i++) {
-            if (!(docNodes.item(i) instanceof Element)) {
-                continue;
-            }
-            Element item = (Element) docNodes.item(i);
-            String title = textOf(item, "bookname");
-            String author = textOf(item, "authors");
-            String publisher = textOf(item, "publisher");
-            String isbn13 = textOf(item, "isbn13");
-            String cover = textOf(item, "bookImageURL");
-            results.add(new BestsellerItemDTO(title, author, publisher, isbn13, cover, null));
-        }
-        return results;
-    }
-
-    // XML 태그 텍스트 추출
-    private String textOf(Element element, String tagName) {
-        NodeList nodes = element.getElementsByTagName(tagName);
-        if (nodes == null || nodes.getLength() == 0) {
-            return null;
-        }
-        String text = nodes.item(0).getTextContent();
-        return text != null ? text.trim() : null;
-    }
 }
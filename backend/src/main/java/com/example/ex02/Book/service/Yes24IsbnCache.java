@@ -0,0 +1,123 @@
+package com.example.ex02.Book.service;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// YES24 상품번호(goodsId) → ISBN 캐시 (크기 제한 LRU, 파일로 저장해 재기동 후에도 유지)
+@Component
+public class Yes24IsbnCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(Yes24IsbnCache.class);
+
+    private final Path file;
+    private final int maxEntries;
+    private final Map<String, String> entries;
+    private boolean dirty;
+
+    public Yes24IsbnCache(
+            @Value("${bestseller.yes24-isbn-cache.file:data/yes24-isbn-cache.tsv}") String file,
+            @Value("${bestseller.yes24-isbn-cache.max-entries:2000}") int maxEntries
+    ) {
+        this.file = Paths.get(file);
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > Yes24IsbnCache.this.maxEntries;
+            }
+        };
+    }
+
+    // 저장 파일 복원 (goodsId<TAB>isbn, 오래된 항목부터)
+    @PostConstruct
+    public void load() {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            synchronized (entries) {
+                while ((line = reader.readLine()) != null) {
+                    int tab = line.indexOf('\t');
+                    if (tab > 0 && tab < line.length() - 1) {
+                        entries.put(line.substring(0, tab), line.substring(tab + 1));
+                    }
+                }
+            }
+            logger.info("Loaded {} YES24 ISBN mappings from {}", size(), file);
+        } catch (IOException e) {
+            logger.warn("YES24 ISBN cache load failed ({}): {}", file, e.getMessage());
+        }
+    }
+
+    public String get(String goodsId) {
+        synchronized (entries) {
+            return entries.get(goodsId);
+        }
+    }
+
+    // 빈 ISBN(조회 실패)은 저장하지 않음 - 다음 갱신 때 다시 시도
+    public void put(String goodsId, String isbn) {
+        if (isbn == null || isbn.isBlank()) {
+            return;
+        }
+        synchronized (entries) {
+            if (!isbn.equals(entries.put(goodsId, isbn))) {
+                dirty = true;
+            }
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 바뀐 내용이 있으면 임시 파일에 쓴 뒤 교체 (쓰는 도중 종료돼도 기존 파일 유지)
+    public void flush() {
+        Map<String, String> copy;
+        synchronized (entries) {
+            if (!dirty) {
+                return;
+            }
+            copy = new LinkedHashMap<>(entries);
+            dirty = false;
+        }
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = Files.createTempFile(parent, "yes24-isbn", ".tmp");
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, String> entry : copy.entrySet()) {
+                    writer.write(entry.getKey());
+                    writer.write('\t');
+                    writer.write(entry.getValue());
+                    writer.newLine();
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            synchronized (entries) {
+                dirty = true;
+            }
+            logger.warn("YES24 ISBN cache save failed ({}): {}", file, e.getMessage());
+        }
+    }
+}
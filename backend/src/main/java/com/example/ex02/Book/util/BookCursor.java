@@ -0,0 +1,34 @@
+package com.example.ex02.Book.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// book_id 키셋 커서 인코딩 (클라이언트에는 불투명 문자열로 노출)
+public final class BookCursor {
+
+    private static final String PREFIX = "b:";
+
+    private BookCursor() {
+    }
+
+    public static String encode(long bookId) {
+        byte[] raw = (PREFIX + bookId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    // 커서 해석, 비어 있으면 null (첫 페이지)
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
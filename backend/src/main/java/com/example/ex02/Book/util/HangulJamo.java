@@ -0,0 +1,118 @@
+package com.example.ex02.Book.util;
+
+// 한글 음절 초성/자모 분해 유틸 (호환용 자모 U+3131~U+318E 기준)
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int JUNGSUNG_COUNT = 21;
+    private static final int JONGSUNG_COUNT = 28;
+
+    private static final String[] CHOSUNG = {
+            "ㄱ", "ㄲ", "ㄴ", "ㄷ", "ㄸ", "ㄹ", "ㅁ", "ㅂ", "ㅃ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅉ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 초성으로 쓰일 수 있는 자음 19개 (겹받침 ㄳ, ㄵ … ㅄ 은 초성이 될 수 없음)
+    private static final String CHOSUNG_CHARS = String.join("", CHOSUNG);
+
+    // 겹모음은 입력 순서대로 풀어서 저장 (예: ㅘ -> ㅗㅏ)
+    private static final String[] JUNGSUNG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ",
+            "ㅗㅐ", "ㅗㅣ", "ㅛ", "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 겹받침도 풀어서 저장 (예: ㄳ -> ㄱㅅ)
+    private static final String[] JONGSUNG = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ",
+            "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ",
+            "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    // 단독 입력된 겹자모도 같은 규칙으로 분해
+    private static final String COMPOUND_JAMO = "ㄳㄵㄶㄺㄻㄼㄽㄾㄿㅀㅄㅘㅙㅚㅝㅞㅟㅢ";
+    private static final String[] COMPOUND_JAMO_PARTS = {
+            "ㄱㅅ", "ㄴㅈ", "ㄴㅎ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ", "ㄹㅍ", "ㄹㅎ", "ㅂㅅ",
+            "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅡㅣ"
+    };
+
+    private HangulJamo() {
+    }
+
+    // 초성 문자열 (한글 외 문자는 그대로, 공백은 제거)
+    public static String toChosung(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (Character.isWhitespace(ch)) continue;
+            if (isSyllable(ch)) {
+                sb.append(CHOSUNG[(ch - SYLLABLE_BASE) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 자모 분해 문자열 (한글 외 문자는 그대로, 공백은 제거)
+    public static String toJamo(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(value.length() * 3);
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (Character.isWhitespace(ch)) continue;
+            if (isSyllable(ch)) {
+                int offset = ch - SYLLABLE_BASE;
+                sb.append(CHOSUNG[offset / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+                sb.append(JUNGSUNG[(offset % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT]);
+                sb.append(JONGSUNG[offset % JONGSUNG_COUNT]);
+                continue;
+            }
+            int compound = COMPOUND_JAMO.indexOf(ch);
+            if (compound >= 0) {
+                sb.append(COMPOUND_JAMO_PARTS[compound]);
+            } else {
+                sb.append(ch);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 공백을 제외한 모든 문자가 초성 자음인지 (예: "ㅎㄹㅍㅌ")
+    public static boolean isChosungQuery(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (Character.isWhitespace(ch)) continue;
+            if (CHOSUNG_CHARS.indexOf(ch) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 한글(음절 또는 자모) 포함 여부
+    public static boolean containsHangul(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (isSyllable(ch) || (ch >= 0x3131 && ch <= 0x318E)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSyllable(char ch) {
+        return ch >= SYLLABLE_BASE && ch <= SYLLABLE_LAST;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.ex02.Book.util;
+
+// ISBN 정규화 유틸 (ISBN-10 -> ISBN-13 변환 + 체크디지트 검증)
+public final class IsbnUtils {
+
+    private IsbnUtils() {
+    }
+
+    // 정규화된 ISBN-13 반환, 유효하지 않으면 null
+    public static String toIsbn13(String raw) {
+        if (raw == null) {
+            return null;
+        }
+        String cleaned = raw.replaceAll("[\\s-]", "").toUpperCase();
+        if (cleaned.length() == 13) {
+            return isValidIsbn13(cleaned) ? cleaned : null;
+        }
+        if (cleaned.length() == 10 && isValidIsbn10(cleaned)) {
+            String body = "978" + cleaned.substring(0, 9);
+            return body + isbn13CheckDigit(body);
+        }
+        return null;
+    }
+
+    // 유효한 ISBN-10/13 여부
+    public static boolean isIsbn(String raw) {
+        return toIsbn13(raw) != null;
+    }
+
+    private static boolean isValidIsbn13(String value) {
+        if (!value.matches("97[89]\\d{10}")) {
+            return false;
+        }
+        return isbn13CheckDigit(value.substring(0, 12)) == value.charAt(12) - '0';
+    }
+
+    private static boolean isValidIsbn10(String value) {
+        if (!value.matches("\\d{9}[\\dX]")) {
+            return false;
+        }
+        int sum = 0;
+        for (int i = 0; i < 10; i++) {
+            char ch = value.charAt(i);
+            int digit = ch == 'X' ? 10 : ch - '0';
+            sum += (10 - i) * digit;
+        }
+        return sum % 11 == 0;
+    }
+
+    private static int isbn13CheckDigit(String first12) {
+        int sum = 0;
+        for (int i = 0; i < 12; i++) {
+            int digit = first12.charAt(i) - '0';
+            sum += (i % 2 == 0) ? digit : digit * 3;
+        }
+        return (10 - sum % 10) % 10;
+    }
+}
@@ -2,8 +2,10 @@ package com.example.ex02.Library.controller;
 
 import com.example.ex02.Library.service.LibraryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -28,10 +30,15 @@ public class LibraryController {
         return ResponseEntity.ok(libraryService.getLibraryData());
     }
 
-    // 책 검색 (외부 API 프록시)
+    // 책 검색 (결과 상한 + 페이지, 응답 스트리밍)
     @GetMapping("/search-book")
-    public ResponseEntity<String> searchBook(@RequestParam String query) {
-        return ResponseEntity.ok(libraryService.searchBooks(query));
+    public ResponseEntity<StreamingResponseBody> searchBook(
+            @RequestParam String query,
+            @RequestParam(defaultValue = "1") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(libraryService.searchBooks(query, page, size));
     }
 
     // 대출 가능 여부 확인 (외부 API 프록시)
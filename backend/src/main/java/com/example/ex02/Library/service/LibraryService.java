@@ -1,9 +1,17 @@
 package com.example.ex02.Library.service;
 
-import com.example.ex02.Book.entity.BookEntity;
 import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.search.BookSearchIndex;
+import com.example.ex02.Book.search.BookSpellSuggester;
+import com.example.ex02.Book.util.IsbnUtils;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.opencsv.CSVReader;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import java.io.InputStreamReader;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
@@ -13,20 +21,30 @@ import java.util.List;
 import java.util.Map;
 import java.util.HashMap;
 import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.json.JSONArray;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Service
 public class LibraryService {
     private static final String CSV_FILE = "서울시_도서관_코드포함.csv";
     private static final String KEY_GU = "구명";
+    private static final int MAX_PAGE_SIZE = 100;
+    // 검색 결과 상한 (이후 페이지는 빈 결과)
+    private static final int MAX_RESULTS = 500;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    @PersistenceContext
+    private EntityManager entityManager;
 
     private final BookRepository bookRepository;
+    private final BookSearchIndex bookSearchIndex;
+    private final BookSpellSuggester bookSpellSuggester;
 
     @Value("${data4library.api-key:}")
     private String data4LibraryKey;
@@ -36,8 +54,11 @@ public class LibraryService {
 
     private final List<Map<String, String>> libraryData = new ArrayList<>();
 
-    public LibraryService(BookRepository bookRepository) {
+    public LibraryService(BookRepository bookRepository, BookSearchIndex bookSearchIndex,
+                          BookSpellSuggester bookSpellSuggester) {
         this.bookRepository = bookRepository;
+        this.bookSearchIndex = bookSearchIndex;
+        this.bookSpellSuggester = bookSpellSuggester;
     }
 
     @PostConstruct
@@ -82,55 +103,83 @@ public class LibraryService {
         return libraryData;
     }
 
-    public String searchBooks(String query) {
+    // 도서 검색 - 결과 상한/페이지 적용 후 응답 JSON 을 출력 스트림에 바로 기록
+    public StreamingResponseBody searchBooks(String query, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = (Math.max(1, page) - 1) * pageSize;
         String normalized = normalizeQuery(query);
-        if (normalized.isBlank()) {
-            return emptySearchResponse();
-        }
 
         List<String> tokens = Arrays.stream(normalized.split("\\s+"))
                 .map(String::trim)
                 .filter(token -> !token.isEmpty())
                 .map(String::toLowerCase)
+                .distinct()
                 .collect(Collectors.toList());
-        if (tokens.isEmpty()) {
-            return emptySearchResponse();
+        if (tokens.isEmpty() || offset >= MAX_RESULTS) {
+            return writeSearchResponse(List.of(), page, pageSize, false, null);
         }
 
-        String firstToken = tokens.get(0);
-        List<BookEntity> books = bookRepository
-                .findByTitleContainingIgnoreCaseOrIsbnContainingOrAuthorContainingIgnoreCaseOrPublisherContainingIgnoreCase(
-                        firstToken,
-                        firstToken,
-                        firstToken,
-                        firstToken
-                )
-                .stream()
-                .filter(book -> matchesAllTokens(book, tokens))
-                .collect(Collectors.toList());
-        JSONArray docs = new JSONArray();
-
-        for (BookEntity book : books) {
-            JSONObject doc = new JSONObject();
-            doc.put("bookname", safeValue(book.getTitle()));
-            doc.put("authors", safeValue(book.getAuthor()));
-            doc.put("publisher", safeValue(book.getPublisher()));
-            doc.put("isbn13", safeValue(book.getIsbn()));
-            doc.put("isbn", safeValue(book.getIsbn()));
-            doc.put("bookImageURL", safeValue(book.getImageUrl()));
-            doc.put("bookDtlUrl", "");
-
-            JSONObject wrapper = new JSONObject();
-            wrapper.put("doc", doc);
-            docs.put(wrapper);
+        // 한 건 더 조회해서 다음 페이지 존재 여부 판단
+        int fetch = Math.min(pageSize + 1, MAX_RESULTS - offset);
+        String isbn13 = IsbnUtils.toIsbn13(normalized);
+        List<Long> ids;
+        if (isbn13 != null) {
+            // ISBN 검색은 isbn13 유니크 인덱스로 바로 조회
+            ids = bookRepository.findByIsbn13(isbn13)
+                    .map(book -> List.of(book.getBookId()))
+                    .orElse(List.of());
+            ids = offset == 0 ? ids : List.of();
+        } else if (bookSearchIndex.isReady() && bookSearchIndex.isIndexable(normalized)) {
+            // 메모리 인덱스에서 BM25 순위 상위 (offset + fetch)개만 뽑아 해당 페이지만 사용
+            List<Long> ranked = bookSearchIndex.searchRanked(normalized, offset + fetch);
+            ids = ranked.size() > offset ? ranked.subList(offset, ranked.size()) : List.of();
+        } else {
+            // 인덱스 구성 전이거나 한 글자 토큰뿐이면 모든 토큰의 AND 조건을 DB 에서 처리
+            ids = findIdsByTokens(tokens, fetch, offset);
         }
 
-        JSONObject response = new JSONObject();
-        response.put("docs", docs);
+        boolean hasMore = ids.size() > pageSize && offset + pageSize < MAX_RESULTS;
+        List<Object[]> rows = findDocsInOrder(hasMore ? ids.subList(0, pageSize) : ids);
 
-        JSONObject root = new JSONObject();
-        root.put("response", response);
-        return root.toString();
+        // 첫 페이지부터 결과가 없으면 철자 교정 제안어
+        String suggestion = rows.isEmpty() && offset == 0 ? bookSpellSuggester.suggest(normalized) : null;
+        return writeSearchResponse(rows, page, pageSize, hasMore, suggestion);
+    }
+
+    // {"response": {"page", "size", "hasMore", "docs": [{"doc": {...}}], "suggestion"}} 형태로 스트리밍 기록
+    private StreamingResponseBody writeSearchResponse(List<Object[]> rows, int page, int size,
+                                                      boolean hasMore, String suggestion) {
+        return outputStream -> {
+            try (JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.writeStartObject();
+                generator.writeObjectFieldStart("response");
+                generator.writeNumberField("page", Math.max(1, page));
+                generator.writeNumberField("size", size);
+                generator.writeBooleanField("hasMore", hasMore);
+                generator.writeArrayFieldStart("docs");
+                for (Object[] row : rows) {
+                    String isbn = (String) row[4];
+                    String isbn13 = (String) row[5];
+                    generator.writeStartObject();
+                    generator.writeObjectFieldStart("doc");
+                    generator.writeStringField("bookname", safeValue((String) row[1]));
+                    generator.writeStringField("authors", safeValue((String) row[2]));
+                    generator.writeStringField("publisher", safeValue((String) row[3]));
+                    generator.writeStringField("isbn13", safeValue(isbn13 != null ? isbn13 : isbn));
+                    generator.writeStringField("isbn", safeValue(isbn));
+                    generator.writeStringField("bookImageURL", safeValue((String) row[6]));
+                    generator.writeStringField("bookDtlUrl", "");
+                    generator.writeEndObject();
+                    generator.writeEndObject();
+                }
+                generator.writeEndArray();
+                if (suggestion != null) {
+                    generator.writeStringField("suggestion", suggestion);
+                }
+                generator.writeEndObject();
+                generator.writeEndObject();
+            }
+        };
     }
 
     public String checkLoan(String libCode, String isbn) {
@@ -227,39 +276,52 @@ public class LibraryService {
         return false;
     }
 
+    // ID 목록 순서(검색 순위)를 유지한 채 응답 필드만 일괄 조회
+    private List<Object[]> findDocsInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Object[]> byId = bookRepository.findLibraryDocsByIdIn(ids).stream()
+                .collect(Collectors.toMap(row -> (Long) row[0], Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     private String safeValue(String value) {
         return value == null ? "" : value;
     }
 
-    private boolean matchesAllTokens(BookEntity book, List<String> tokens) {
-        String title = safeLower(book.getTitle());
-        String author = safeLower(book.getAuthor());
-        String isbn = safeLower(book.getIsbn());
-        String publisher = safeLower(book.getPublisher());
+    // 토큰마다 제목/저자/출판사/ISBN 중 하나에 포함되어야 하는 조건을 만들어 book_id 내림차순 페이지 조회
+    // (LIMIT/OFFSET 이전에 모든 토큰을 걸러야 페이지가 모자라거나 hasMore 가 틀리지 않음)
+    private List<Long> findIdsByTokens(List<String> tokens, int limit, int offset) {
+        StringBuilder sql = new StringBuilder("SELECT b.book_id FROM book b WHERE ");
+        for (int i = 0; i < tokens.size(); i++) {
+            sql.append(i == 0 ? "" : " AND ")
+                    .append("(LOWER(b.title) LIKE CONCAT('%', ?, '%')")
+                    .append(" OR LOWER(b.author) LIKE CONCAT('%', ?, '%')")
+                    .append(" OR LOWER(b.publisher) LIKE CONCAT('%', ?, '%')")
+                    .append(" OR b.isbn LIKE CONCAT('%', ?, '%'))");
+        }
+        sql.append(" ORDER BY b.book_id DESC LIMIT ? OFFSET ?");
 
+        Query query = entityManager.createNativeQuery(sql.toString());
+        int position = 1;
         for (String token : tokens) {
-            if (token.isEmpty()) continue;
-            boolean matches = title.contains(token)
-                    || author.contains(token)
-                    || isbn.contains(token)
-                    || publisher.contains(token);
-            if (!matches) {
-                return false;
+            for (int field = 0; field < 4; field++) {
+                query.setParameter(position++, token);
             }
         }
-        return true;
-    }
+        query.setParameter(position++, limit);
+        query.setParameter(position, offset);
 
-    private String safeLower(String value) {
-        return value == null ? "" : value.toLowerCase();
-    }
-
-    private String emptySearchResponse() {
-        JSONObject response = new JSONObject();
-        response.put("docs", new JSONArray());
-        JSONObject root = new JSONObject();
-        root.put("response", response);
-        return root.toString();
+        List<?> rows = query.getResultList();
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            ids.add(((Number) row).longValue());
+        }
+        return ids;
     }
 
     private String emptyLoanResponse() {
@@ -0,0 +1,12 @@
+package com.example.ex02.common;
+
+// 서킷이 열려 있거나 동시 호출 한도(bulkhead)가 찼을 때 즉시 실패시키는 예외
+public class CallNotPermittedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CallNotPermittedException(String message) {
+        // 빈번하게 발생하는 정상 흐름이므로 스택 트레이스 생략
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,156 @@
+package com.example.ex02.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// 외부 호출 서킷 브레이커 + 동시 호출 제한(bulkhead)
+// 연속 실패(느린 호출 포함)가 임계치를 넘으면 OPEN, open 시간이 지나면 HALF_OPEN 에서 1건만 시험 호출
+public final class CircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final Semaphore bulkhead;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    private final Counter successful;
+    private final Counter failed;
+    private final Counter slow;
+    private final Counter notPermitted;
+
+    public CircuitBreaker(String name, int failureThreshold, long slowCallMillis, long openMillis,
+                          int maxConcurrentCalls, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+
+        this.successful = meterRegistry.counter("circuit.breaker.calls", "name", name, "kind", "successful");
+        this.failed = meterRegistry.counter("circuit.breaker.calls", "name", name, "kind", "failed");
+        this.slow = meterRegistry.counter("circuit.breaker.calls", "name", name, "kind", "slow");
+        this.notPermitted = meterRegistry.counter("circuit.breaker.calls", "name", name, "kind", "not_permitted");
+        // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+        Gauge.builder("circuit.breaker.state", this, breaker -> breaker.getState().ordinal())
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("bulkhead.available.permits", bulkhead, Semaphore::availablePermits)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    // 허용되면 호출하고, 서킷이 열려 있거나 동시 호출 한도가 차 있으면 CallNotPermittedException
+    public <T> T execute(Callable<T> call) throws Exception {
+        boolean probe = acquirePermission();
+        if (!bulkhead.tryAcquire()) {
+            if (probe) {
+                releaseProbe();
+            }
+            notPermitted.increment();
+            throw new CallNotPermittedException(name + " bulkhead is full");
+        }
+
+        long started = System.nanoTime();
+        try {
+            T result = call.call();
+            onResult(System.nanoTime() - started, probe);
+            return result;
+        } catch (Exception | Error e) {
+            // Error 도 실패로 기록해야 HALF_OPEN 시험 호출 표시가 풀림 (안 풀리면 서킷이 계속 막힘)
+            onFailure(probe);
+            throw e;
+        } finally {
+            bulkhead.release();
+        }
+    }
+
+    // HALF_OPEN 시험 호출이면 true
+    private synchronized boolean acquirePermission() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.HALF_OPEN && !probeInFlight) {
+            probeInFlight = true;
+            return true;
+        }
+        notPermitted.increment();
+        throw new CallNotPermittedException(name + " circuit is " + state);
+    }
+
+    private synchronized void releaseProbe() {
+        probeInFlight = false;
+    }
+
+    private synchronized void onResult(long elapsedNanos, boolean probe) {
+        if (elapsedNanos >= slowCallNanos) {
+            // 응답은 받았지만 느린 호출도 장애 신호로 취급
+            slow.increment();
+            recordFailure(probe);
+            return;
+        }
+        successful.increment();
+        consecutiveFailures = 0;
+        if (probe) {
+            probeInFlight = false;
+            transitionTo(State.CLOSED);
+        }
+    }
+
+    private synchronized void onFailure(boolean probe) {
+        failed.increment();
+        recordFailure(probe);
+    }
+
+    private void recordFailure(boolean probe) {
+        if (probe) {
+            probeInFlight = false;
+            transitionTo(State.OPEN);
+            return;
+        }
+        consecutiveFailures++;
+        if (state == State.CLOSED && consecutiveFailures >= failureThreshold) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) {
+            return;
+        }
+        logger.warn("Circuit breaker {}: {} -> {}", name, state, next);
+        state = next;
+        consecutiveFailures = 0;
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+    }
+}
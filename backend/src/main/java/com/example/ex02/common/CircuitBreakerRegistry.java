@@ -0,0 +1,40 @@
+package com.example.ex02.common;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 외부 연동 대상(호스트)별 서킷 브레이커 보관소
+// 설정: resilience.breaker.default.* 를 기본값으로, resilience.breaker.<name>.* 로 대상별 재정의
+@Component
+public class CircuitBreakerRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreakerRegistry(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    // 같은 이름은 같은 인스턴스 (예: 교보 가격 조회와 교보 베스트셀러 수집이 상태를 공유)
+    public CircuitBreaker get(String name) {
+        return breakers.computeIfAbsent(name, key -> new CircuitBreaker(
+                key,
+                property(key, "failure-threshold", 5),
+                property(key, "slow-call-ms", 4000),
+                property(key, "open-ms", 30000),
+                property(key, "max-concurrent", 8),
+                meterRegistry
+        ));
+    }
+
+    private int property(String name, String key, int defaultValue) {
+        Integer fallback = environment.getProperty("resilience.breaker.default." + key, Integer.class, defaultValue);
+        return environment.getProperty("resilience.breaker." + name + "." + key, Integer.class, fallback);
+    }
+}
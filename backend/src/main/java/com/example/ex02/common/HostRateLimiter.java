@@ -0,0 +1,28 @@
+package com.example.ex02.common;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 호스트별 최소 호출 간격 제한 (각 호출에 다음 슬롯을 예약하고 그 시각까지 대기)
+public final class HostRateLimiter {
+
+    private final long intervalNanos;
+    private final Map<String, AtomicLong> nextSlots = new ConcurrentHashMap<>();
+
+    public HostRateLimiter(long minIntervalMillis) {
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(minIntervalMillis);
+    }
+
+    // 해당 호스트의 다음 호출 가능 시각까지 대기
+    public void acquire(String host) throws InterruptedException {
+        AtomicLong next = nextSlots.computeIfAbsent(host, key -> new AtomicLong(System.nanoTime()));
+        long now = System.nanoTime();
+        long slot = next.getAndUpdate(current -> Math.max(current, now) + intervalNanos);
+        long wait = Math.max(slot, now) - now;
+        if (wait > 0) {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.ex02.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 같은 키로 동시에 들어온 호출을 하나로 합치는 유틸 (먼저 온 호출만 실행하고 나머지는 그 결과를 공유)
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter executed;
+    private final Counter coalesced;
+
+    // name 은 메트릭 태그로 사용 (singleflight.calls{name, result=executed|coalesced})
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.executed = meterRegistry.counter("singleflight.calls", "name", name, "result", "executed");
+        this.coalesced = meterRegistry.counter("singleflight.calls", "name", name, "result", "coalesced");
+        Gauge.builder("singleflight.in_flight", inFlight, Map::size)
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    // 같은 키의 호출이 진행 중이면 그 결과를 기다리고, 없으면 loader 를 현재 스레드에서 실행
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        executed.increment();
+        try {
+            V value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 결과가 나온 뒤 들어온 호출은 새로 실행 (결과 캐시는 호출하는 쪽 책임)
+            inFlight.remove(key, created);
+        }
+    }
+
+    // 비동기 버전 - 같은 키의 호출이 진행 중이면 그 future 를 공유하고, 없으면 loader 가 시작한 조회를 등록
+    // (execute 와 같은 키 공간을 쓰므로 동기/비동기 호출끼리도 합쳐짐)
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            coalesced.increment();
+            return existing;
+        }
+
+        executed.increment();
+        CompletableFuture<V> started;
+        try {
+            started = loader.get();
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            inFlight.remove(key, created);
+            throw e;
+        }
+        started.whenComplete((value, error) -> {
+            if (error != null) {
+                created.completeExceptionally(error);
+            } else {
+                created.complete(value);
+            }
+            inFlight.remove(key, created);
+        });
+        return created;
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
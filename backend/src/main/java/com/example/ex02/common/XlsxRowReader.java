@@ -0,0 +1,147 @@
+package com.example.ex02.common;
+
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+// XLSX 첫 번째 시트를 SAX(이벤트) 방식으로 한 행씩 읽는 유틸 (워크북 전체를 메모리에 올리지 않음)
+public final class XlsxRowReader {
+
+    // 행 콜백 - false 를 반환하면 나머지 행은 읽지 않고 종료
+    @FunctionalInterface
+    public interface RowHandler {
+        boolean onRow(int rowIndex, List<String> cells) throws Exception;
+    }
+
+    private XlsxRowReader() {
+    }
+
+    // 스트림 입력 - zip 중앙 디렉터리를 읽어야 하므로 힙 대신 임시 파일에 내려받은 뒤 읽음
+    public static int read(InputStream in, RowHandler handler) throws IOException {
+        Path spool = Files.createTempFile("xlsx-", ".xlsx");
+        try {
+            Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+            return read(spool.toFile(), handler);
+        } finally {
+            Files.deleteIfExists(spool);
+        }
+    }
+
+    // 첫 시트의 각 행을 셀 문자열 목록(빈 셀은 "")으로 전달하고, 전달한 행 수를 반환
+    public static int read(File file, RowHandler handler) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable strings = new ReadOnlySharedStringsTable(pkg, false);
+            StylesTable styles = reader.getStylesTable();
+
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return 0;
+            }
+
+            RowCollector collector = new RowCollector(handler);
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(
+                        styles, strings, collector, new DataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            } catch (StopSignal stop) {
+                // 콜백이 중단을 요청한 경우 (정상 종료)
+            }
+            return collector.delivered;
+        } catch (HandlerFailure e) {
+            throw new IOException("XLSX row handling failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException("XLSX read failed: " + e.getMessage(), e);
+        }
+    }
+
+    // 콜백에서 발생한 예외 전달용
+    private static final class HandlerFailure extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private HandlerFailure(Exception cause) {
+            super(cause);
+        }
+    }
+
+    private static final class RowCollector implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final RowHandler handler;
+        private final List<String> cells = new ArrayList<>();
+        private int nextColumn;
+        private int delivered;
+        private boolean stopped;
+
+        private RowCollector(RowHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells.clear();
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            if (stopped) {
+                return;
+            }
+            try {
+                delivered++;
+                if (!handler.onRow(rowNum, new ArrayList<>(cells))) {
+                    stopped = true;
+                }
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new HandlerFailure(e);
+            }
+            if (stopped) {
+                throw new StopSignal();
+            }
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            // 비어 있는 셀은 XML 에 없으므로 열 번호를 보고 "" 로 채움
+            int column = cellReference == null ? nextColumn : new CellReference(cellReference).getCol();
+            while (cells.size() < column) {
+                cells.add("");
+            }
+            cells.add(formattedValue == null ? "" : formattedValue);
+            nextColumn = column + 1;
+        }
+    }
+
+    // SheetContentsHandler 는 checked 예외를 던질 수 없으므로 unchecked 로 감싸 파서를 빠져나감 (스택 트레이스 생략)
+    private static final class StopSignal extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private StopSignal() {
+            super(null, null, false, false);
+        }
+    }
+}
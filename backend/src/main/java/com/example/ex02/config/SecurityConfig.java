@@ -71,6 +71,9 @@ public class SecurityConfig {
                 .requestMatchers("/h2-console/**", "/actuator/**").permitAll()
                 .requestMatchers("/error").permitAll()
 
+                // === 도서 일괄 등록 (관리자 전용) ===
+                .requestMatchers("/api/books/import", "/api/books/import/**").hasRole("ADMIN")
+
                 // === 도서 API (GET은 공개, 나머지는 인증 필요) ===
                 .requestMatchers(HttpMethod.GET, "/api/books/**").permitAll()
                 .requestMatchers(HttpMethod.POST, "/api/books/**").authenticated()
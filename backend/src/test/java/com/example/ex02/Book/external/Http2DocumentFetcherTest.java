@@ -0,0 +1,146 @@
+package com.example.ex02.Book.external;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.HttpStatusException;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 로컬 스텁 서버(com.sun.net.httpserver)로 HTTP/2 폴백 조회기 동작 확인
+class Http2DocumentFetcherTest {
+
+    private static final String KOREAN_PAGE =
+            "<html><head><title>교보문고 베스트셀러</title></head><body><a href=\"/detail/1\">상세</a></body></html>";
+
+    private HttpServer server;
+    private String baseUrl;
+    private final Map<String, String> receivedHeaders = new ConcurrentHashMap<>();
+    private final Http2DocumentFetcher fetcher = new Http2DocumentFetcher(Duration.ofSeconds(2));
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/euc-kr", exchange ->
+                respond(exchange, 200, "text/html; charset=EUC-KR", KOREAN_PAGE.getBytes(Charset.forName("EUC-KR"))));
+        server.createContext("/meta-charset", exchange ->
+                respond(exchange, 200, "text/html", ("<html><head><meta charset=\"EUC-KR\"></head>"
+                        + "<body><p>한글 본문</p></body></html>").getBytes(Charset.forName("EUC-KR"))));
+        server.createContext("/gzip", exchange -> {
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(KOREAN_PAGE.getBytes(StandardCharsets.UTF_8));
+            }
+            exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+            respond(exchange, 200, "text/html; charset=UTF-8", compressed.toByteArray());
+        });
+        server.createContext("/old", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/new/page");
+            respond(exchange, 302, "text/plain", new byte[0]);
+        });
+        server.createContext("/new/page", exchange ->
+                respond(exchange, 200, "text/html; charset=UTF-8", KOREAN_PAGE.getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/headers", exchange -> {
+            exchange.getRequestHeaders().forEach((name, values) -> receivedHeaders.put(name.toLowerCase(), values.get(0)));
+            respond(exchange, 200, "text/html; charset=UTF-8", "<html></html>".getBytes(StandardCharsets.UTF_8));
+        });
+        server.createContext("/missing", exchange ->
+                respond(exchange, 404, "text/html", "<html>not found</html>".getBytes(StandardCharsets.UTF_8)));
+        server.createContext("/slow", exchange -> {
+            try {
+                Thread.sleep(1500);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            respond(exchange, 200, "text/html", "<html></html>".getBytes(StandardCharsets.UTF_8));
+        });
+        server.start();
+        baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void decodesBodyWithCharsetFromContentType() throws IOException {
+        Document doc = fetcher.fetch(baseUrl + "/euc-kr", null, 2000);
+
+        assertEquals("교보문고 베스트셀러", doc.title());
+    }
+
+    @Test
+    void fallsBackToMetaCharsetWhenHeaderHasNone() throws IOException {
+        Document doc = fetcher.fetch(baseUrl + "/meta-charset", null, 2000);
+
+        assertEquals("한글 본문", doc.selectFirst("p").text());
+    }
+
+    @Test
+    void decompressesGzipBody() throws IOException {
+        Document doc = fetcher.fetch(baseUrl + "/gzip", null, 2000);
+
+        assertEquals("교보문고 베스트셀러", doc.title());
+    }
+
+    @Test
+    void followsRedirectsAndResolvesLinksAgainstFinalUrl() throws IOException {
+        Document doc = fetcher.fetch(baseUrl + "/old", null, 2000);
+
+        assertEquals(baseUrl + "/new/page", doc.location());
+        assertEquals(baseUrl + "/detail/1", doc.selectFirst("a").absUrl("href"));
+    }
+
+    @Test
+    void sendsBrowserLikeHeaders() throws IOException {
+        fetcher.fetch(baseUrl + "/headers", "https://www.kyobobook.co.kr", 2000);
+
+        assertTrue(receivedHeaders.get("user-agent").startsWith("Mozilla/5.0"));
+        assertTrue(receivedHeaders.get("accept").startsWith("text/html"));
+        assertTrue(receivedHeaders.get("accept-language").startsWith("ko-KR"));
+        assertEquals("https://www.kyobobook.co.kr", receivedHeaders.get("referer"));
+    }
+
+    @Test
+    void throwsHttpStatusExceptionForErrorStatus() {
+        HttpStatusException error = assertThrows(HttpStatusException.class,
+                () -> fetcher.fetch(baseUrl + "/missing", null, 2000));
+
+        assertEquals(404, error.getStatusCode());
+    }
+
+    @Test
+    void timesOutSlowResponses() {
+        IOException error = assertThrows(IOException.class,
+                () -> fetcher.fetch(baseUrl + "/slow", null, 300));
+
+        assertInstanceOf(HttpTimeoutException.class, error);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
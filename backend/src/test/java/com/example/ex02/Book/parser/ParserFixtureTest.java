@@ -0,0 +1,145 @@
+package com.example.ex02.Book.parser;
+
+import com.example.ex02.Book.dto.BestsellerItemDTO;
+import com.example.ex02.Book.dto.BookPriceDTO;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 저장해 둔 페이지(src/test/resources/fixtures)로 파서 셀렉터/매핑 회귀 확인
+class ParserFixtureTest {
+
+    @Test
+    void kyoboProductListSkipsDuplicatesAndStopsAtTen() throws IOException {
+        List<BestsellerItemDTO> items;
+        try (InputStream in = fixture("kyobo-bestseller.html")) {
+            items = KyoboBestsellerParser.parse(in, "https://product.kyobobook.co.kr/bestseller/total");
+        }
+
+        assertEquals(10, items.size());
+        assertEquals(10, items.stream().map(BestsellerItemDTO::getTitle).distinct().count());
+        BestsellerItemDTO first = items.get(0);
+        assertEquals("소년이 온다", first.getTitle());
+        assertEquals("한강", first.getAuthor());
+        assertEquals("창비", first.getPublisher());
+        assertEquals("https://contents.kyobobook.co.kr/sih/fit-in/458x0/pdt/9788936434267.jpg", first.getCover());
+        assertEquals("https://product.kyobobook.co.kr/detail/S8936434267", first.getLink());
+    }
+
+    @Test
+    void kyoboStoreListSplitsAuthorAndPublisher() throws IOException {
+        List<BestsellerItemDTO> items;
+        try (InputStream in = fixture("kyobo-store-weekly.html")) {
+            items = KyoboBestsellerParser.parseStoreList(
+                    Jsoup.parse(in, null, "https://store.kyobobook.co.kr/bestseller/total/weekly"));
+        }
+
+        assertEquals(10, items.size());
+        assertEquals("채식주의자", items.get(1).getTitle());
+        assertEquals("한강", items.get(1).getAuthor());
+        assertEquals("창비", items.get(1).getPublisher());
+        assertEquals("https://contents.kyobobook.co.kr/pdt/9788954651134.jpg", items.get(1).getCover());
+    }
+
+    @Test
+    void kyoboExcelMapsHeadersAndStopsAtTen() throws IOException {
+        List<BestsellerItemDTO> items;
+        try (InputStream in = fixture("kyobo-bestseller.xlsx")) {
+            items = KyoboBestsellerParser.parseExcel(in);
+        }
+
+        assertEquals(10, items.size());
+        BestsellerItemDTO first = items.get(0);
+        assertEquals("소년이 온다", first.getTitle());
+        assertEquals("한강", first.getAuthor());
+        assertEquals("창비", first.getPublisher());
+        assertEquals("9788936434267", first.getIsbn13());
+        assertEquals("https://product.kyobobook.co.kr/detail/S8936434267", first.getLink());
+        assertTrue(first.getCover().endsWith("/pdt/9788936434267.jpg"));
+    }
+
+    @Test
+    void yes24ListPrefersLazyCoverAndSkipsDuplicates() throws IOException {
+        List<BestsellerItemDTO> items;
+        try (InputStream in = fixture("yes24-bestseller.html")) {
+            items = Yes24BestsellerParser.parse(in, "https://www.yes24.com/Product/Category/BestSeller");
+        }
+
+        assertEquals(10, items.size());
+        assertEquals(10, items.stream().map(BestsellerItemDTO::getTitle).distinct().count());
+        BestsellerItemDTO first = items.get(0);
+        assertEquals("소년이 온다", first.getTitle());
+        assertEquals("한강 저", first.getAuthor());
+        assertEquals("", first.getIsbn13());
+        assertTrue(first.getCover().startsWith("https://image.yes24.com/goods/"));
+        assertTrue(first.getLink().startsWith("/Product/Goods/"));
+    }
+
+    @Test
+    void yes24DetailReadsIsbnFromMeta() throws IOException {
+        try (InputStream in = fixture("yes24-detail.html")) {
+            assertEquals("9788936434267", Yes24BestsellerParser.parseDetailIsbn(
+                    Jsoup.parse(in, null, "https://www.yes24.com/Product/Goods/1")));
+        }
+    }
+
+    @Test
+    void data4LibraryLoanStopsAtTen() throws IOException {
+        List<BestsellerItemDTO> items;
+        try (InputStream in = fixture("data4library-loan.xml")) {
+            items = Data4LibraryLoanParser.parse(in);
+        }
+
+        assertEquals(10, items.size());
+        BestsellerItemDTO first = items.get(0);
+        assertEquals("소년이 온다", first.getTitle());
+        assertEquals("지은이: 한강", first.getAuthor());
+        assertEquals("9788936434267", first.getIsbn13());
+        assertNull(first.getLink());
+    }
+
+    @Test
+    void priceParsersReadFirstResult() throws IOException {
+        BookPriceDTO aladin;
+        try (InputStream in = fixture("aladin-search.html")) {
+            aladin = PriceSearchParser.parseAladin(in, "https://www.aladin.co.kr/search/wsearchresult.aspx");
+        }
+        BookPriceDTO kyobo;
+        try (InputStream in = fixture("kyobo-search.html")) {
+            kyobo = PriceSearchParser.parseKyobo(in, "https://search.kyobobook.co.kr/search");
+        }
+        BookPriceDTO yes24;
+        try (InputStream in = fixture("yes24-search.html")) {
+            yes24 = PriceSearchParser.parseYes24(in, "https://www.yes24.com/Product/Search");
+        }
+
+        assertEquals(7200, aladin.getPrice());
+        assertEquals("https://www.aladin.co.kr/shop/wproduct.aspx?ItemId=37460449", aladin.getLink());
+        assertEquals(7200, kyobo.getPrice());
+        assertEquals("https://product.kyobobook.co.kr/detail/S8937460449", kyobo.getLink());
+        assertEquals(7200, yes24.getPrice());
+        assertEquals("https://www.yes24.com/Product/Goods/2666052", yes24.getLink());
+    }
+
+    @Test
+    void priceParserReturnsNullWhenSelectorsMiss() throws IOException {
+        try (InputStream in = fixture("kyobo-search.html")) {
+            assertNull(PriceSearchParser.parseAladin(in, "https://www.aladin.co.kr/"));
+        }
+    }
+
+    private static InputStream fixture(String name) {
+        InputStream in = ParserFixtureTest.class.getResourceAsStream("/fixtures/" + name);
+        if (in == null) {
+            throw new IllegalStateException("Missing fixture: " + name);
+        }
+        return in;
+    }
+}
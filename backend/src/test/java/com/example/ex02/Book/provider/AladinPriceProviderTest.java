@@ -0,0 +1,28 @@
+package com.example.ex02.Book.provider;
+
+import com.example.ex02.Book.external.ScrapeHttpClient;
+import com.example.ex02.common.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AladinPriceProviderTest {
+
+    @Test
+    void networkFailureIsNotReportedAsNotFound() throws IOException {
+        ScrapeHttpClient scrapeHttpClient = mock(ScrapeHttpClient.class);
+        when(scrapeHttpClient.get(anyString(), anyInt())).thenThrow(new IOException("connection reset"));
+        AladinPriceProvider provider = new AladinPriceProvider(scrapeHttpClient,
+                new CircuitBreakerRegistry(new SimpleMeterRegistry(), new MockEnvironment()));
+
+        assertThrows(PriceLookupException.class, () -> provider.getPrice("9788936434120", "소년이 온다"));
+    }
+}
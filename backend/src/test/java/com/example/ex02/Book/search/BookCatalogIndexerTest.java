@@ -0,0 +1,74 @@
+package com.example.ex02.Book.search;
+
+import com.example.ex02.Book.entity.BookEntity;
+import com.example.ex02.Book.repository.BookRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+class BookCatalogIndexerTest {
+
+    private final BookSearchIndex searchIndex = new BookSearchIndex();
+    private final BookCatalogIndexer indexer =
+            new BookCatalogIndexer(mock(BookRepository.class), List.of(searchIndex));
+
+    @BeforeEach
+    void setUp() {
+        searchIndex.rebuild(List.of(new IndexedBook(1L, "자바의 정석", "남궁성", "도우출판", "")));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void changesAreAppliedOnlyAfterCommit() {
+        indexer.index(book(2L, "모던 자바 인 액션"));
+        indexer.remove(1L);
+
+        assertEquals(List.of(1L), searchIndex.search("자바", 10));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertEquals(List.of(2L), searchIndex.search("자바", 10));
+    }
+
+    @Test
+    void rolledBackChangesNeverReachTheIndex() {
+        indexer.index(book(2L, "모던 자바 인 액션"));
+        indexer.remove(1L);
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertEquals(List.of(1L), searchIndex.search("자바", 10));
+    }
+
+    @Test
+    void changesOutsideATransactionApplyImmediately() {
+        TransactionSynchronizationManager.clearSynchronization();
+        try {
+            indexer.index(book(2L, "모던 자바 인 액션"));
+            assertEquals(List.of(2L, 1L), searchIndex.search("자바", 10));
+        } finally {
+            TransactionSynchronizationManager.initSynchronization();
+        }
+    }
+
+    private static BookEntity book(long id, String title) {
+        BookEntity book = new BookEntity();
+        book.setBookId(id);
+        book.setTitle(title);
+        book.setAuthor("");
+        book.setPublisher("");
+        book.setIsbn("");
+        return book;
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.ex02.Book.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookSearchIndexTest {
+
+    private final BookSearchIndex index = new BookSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(List.of(
+                new IndexedBook(1L, "자바의 정석", "남궁성", "도우출판", "9788994492032"),
+                new IndexedBook(2L, "모던 자바 인 액션", "라울-게이브리얼 우르마", "한빛미디어", "9791162242025")
+        ));
+    }
+
+    @Test
+    void addedBooksAreFoundNewestFirst() {
+        index.upsert(new IndexedBook(3L, "자바 ORM 표준 JPA 프로그래밍", "김영한", "", ""));
+
+        assertEquals(List.of(3L, 2L, 1L), index.search("자바", 10));
+        assertEquals(List.of(3L, 2L), index.search("자바", 2));
+        assertEquals(List.of(1L), index.search("9788994492032", 10));
+    }
+
+    @Test
+    void removedBookIsNoLongerFound() {
+        index.remove(2L);
+
+        assertEquals(List.of(1L), index.search("자바", 10));
+        assertEquals(List.of(), index.search("한빛미디어", 10));
+    }
+
+    @Test
+    void updatedBookIsFoundByItsNewTitleOnly() {
+        index.upsert(new IndexedBook(1L, "코틀린 인 액션", "드미트리 제메로프", "", ""));
+
+        assertEquals(List.of(2L), index.search("자바", 10));
+        assertEquals(List.of(1L), index.search("코틀린", 10));
+        assertEquals(List.of(2L, 1L), index.search("인 액션", 10));
+    }
+
+    @Test
+    void rankedSearchPutsShortTitleMatchAboveNewerPartialMatches() {
+        index.upsert(new IndexedBook(3L, "자바", "김자바", "", ""));
+        index.upsert(new IndexedBook(4L, "스프링 부트와 AWS", "이동욱", "자바출판", ""));
+
+        List<Long> ranked = index.searchRanked("자바", 10);
+
+        assertEquals(4, ranked.size());
+        assertEquals(3L, ranked.get(0));
+        // 모든 토큰을 포함해야 함 (순서 무관)
+        assertEquals(List.of(1L), index.searchRanked("정석 자바", 10));
+    }
+
+    @Test
+    void olderExactTitleOutranksManyNewerPartialMatches() {
+        List<IndexedBook> catalog = new ArrayList<>();
+        catalog.add(new IndexedBook(1L, "파이썬", "김철수", "한빛미디어", "9788968481901"));
+        // 후보가 많아도 book_id 순으로 잘리지 않고 전체 교집합을 점수화해야 함
+        for (long id = 2; id <= 30_000; id++) {
+            catalog.add(new IndexedBook(id, "혼자 공부하는 파이썬 " + id, "윤인성", "한빛미디어", ""));
+        }
+        index.rebuild(catalog);
+
+        List<Long> ranked = index.searchRanked("파이썬", 10);
+
+        assertEquals(10, ranked.size());
+        assertEquals(1L, ranked.get(0));
+    }
+
+    @Test
+    void singleCharacterQueriesAreScannedInsteadOfReturningNothing() {
+        index.rebuild(List.of(
+                new IndexedBook(1L, "소년이 온다", "한강", "창비", ""),
+                new IndexedBook(2L, "채식주의자", "한강", "창비", ""),
+                new IndexedBook(3L, "데미안", "헤르만 헤세", "민음사", "")
+        ));
+
+        assertEquals(List.of(2L, 1L), index.search("한", Long.MAX_VALUE, 10));
+        assertEquals(List.of(1L), index.search("한", 2L, 10));
+        assertEquals(2, index.searchRanked("한 강", 10).size());
+        assertFalse(index.isIndexable("한 강"));
+        assertTrue(index.isIndexable("한 강 창비"));
+    }
+
+    @Test
+    void shortTokensStillFilterIndexedCandidates() {
+        index.rebuild(List.of(
+                new IndexedBook(1L, "소년이 온다", "한강", "창비", ""),
+                new IndexedBook(2L, "소년과 두더지", "찰리 맥커시", "상상의힘", "")
+        ));
+
+        assertEquals(List.of(1L), index.searchRanked("소년 한", 10));
+    }
+}
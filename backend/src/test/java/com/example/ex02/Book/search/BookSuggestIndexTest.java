@@ -0,0 +1,84 @@
+package com.example.ex02.Book.search;
+
+import com.example.ex02.Book.dto.BookSuggestionDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BookSuggestIndexTest {
+
+    private final BookSuggestIndex index = new BookSuggestIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(List.of(
+                new IndexedBook(1L, "자바의 정석", "남궁성", "도우출판", ""),
+                new IndexedBook(2L, "모던 자바 인 액션", "라울-게이브리얼 우르마", "한빛미디어", ""),
+                new IndexedBook(3L, "자바 ORM 표준 JPA 프로그래밍", "김영한", "에이콘", ""),
+                new IndexedBook(4L, "파이썬 입문", "김철수", "한빛미디어", "")
+        ));
+    }
+
+    @Test
+    void prefixMatchesAreOrderedByNewestWhenPopularityIsEqual() {
+        // 제목 중간 단어(모던 "자바")도 접두어로 일치
+        assertEquals(List.of(3L, 2L, 1L), idsOf(index.suggest("자바", 10)));
+        assertEquals(List.of(3L), idsOf(index.suggest("자바 o", 10)));
+        assertEquals(List.of(4L, 3L), idsOf(index.suggest("김", 10)));
+    }
+
+    @Test
+    void popularityOutranksRecency() {
+        index.updatePopularity(Map.of(1L, 50L, 2L, 10L));
+        // 반영은 스케줄러가 할 때까지 미뤄짐
+        assertEquals(List.of(3L, 2L, 1L), idsOf(index.suggest("자바", 10)));
+
+        index.rerankIfPending();
+
+        assertEquals(List.of(1L, 2L, 3L), idsOf(index.suggest("자바", 10)));
+        assertEquals(List.of(1L, 2L), idsOf(index.suggest("자바", 2)));
+    }
+
+    @Test
+    void upsertAndRemoveUpdateThePrefixLists() {
+        index.upsert(new IndexedBook(1L, "이펙티브 자바", "조슈아 블로크", "인사이트", ""));
+        index.remove(3L);
+
+        assertEquals(List.of(2L, 1L), idsOf(index.suggest("자바", 10)));
+        assertEquals(List.of(1L), idsOf(index.suggest("이펙", 10)));
+        assertEquals(List.of(), idsOf(index.suggest("자바의", 10)));
+    }
+
+    @Test
+    void removingAPopularBookRefillsTopKFromDeeperBranches() {
+        List<IndexedBook> catalog = new ArrayList<>();
+        Map<Long, Long> popularity = new HashMap<>();
+        // 상위 K(10)보다 많은 도서가 서로 다른 가지("자바 1", "자바 2" …)로 나뉘어 있음
+        for (long id = 1; id <= 15; id++) {
+            catalog.add(new IndexedBook(id, "자바 " + id + "편", "", "", ""));
+            popularity.put(id, 100 - id);
+        }
+        index.rebuild(catalog);
+        index.updatePopularity(popularity);
+        index.rerankIfPending();
+        assertEquals(List.of(1L, 2L, 3L), idsOf(index.suggest("자바", 3)));
+
+        index.remove(1L);
+        index.remove(2L);
+        index.upsert(new IndexedBook(3L, "코틀린 3편", "", "", ""));
+
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L), idsOf(index.suggest("자바", 10)));
+        assertEquals(List.of(10L, 11L, 12L, 13L, 14L, 15L), idsOf(index.suggest("자바 1", 10)));
+        assertEquals(List.of(3L), idsOf(index.suggest("코", 10)));
+    }
+
+    private static List<Long> idsOf(List<BookSuggestionDTO> suggestions) {
+        return suggestions.stream().map(BookSuggestionDTO::getBookId).toList();
+    }
+}
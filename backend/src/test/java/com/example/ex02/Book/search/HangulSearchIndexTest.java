@@ -0,0 +1,46 @@
+package com.example.ex02.Book.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HangulSearchIndexTest {
+
+    private final HangulSearchIndex index = new HangulSearchIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.rebuild(List.of(
+                new IndexedBook(1L, "해리 포터와 마법사의 돌", "J.K. 롤링", "문학수첩", ""),
+                new IndexedBook(2L, "해리 포터와 비밀의 방", "J.K. 롤링", "문학수첩", ""),
+                new IndexedBook(3L, "소년이 온다", "한강", "창비", "")
+        ));
+    }
+
+    @Test
+    void chosungQueryMatchesTitleAndAuthor() {
+        assertEquals(List.of(2L, 1L), index.search("ㅎㄹㅍㅌ", 10));
+        assertEquals(List.of(3L), index.search("ㅅㄴ", 10));
+        assertEquals(List.of(3L), index.search("ㅎㄱ", 10));
+    }
+
+    @Test
+    void jamoQueryMatchesSyllableStillBeingTyped() {
+        // 마지막 글자를 입력하는 중(받침까지 친 상태)이어도 자모 단위로 일치
+        assertEquals(List.of(2L, 1L), index.search("해리퐅", 10));
+        assertEquals(List.of(3L), index.search("소녀", 10));
+    }
+
+    @Test
+    void updatedAndRemovedBooksAreReflected() {
+        index.upsert(new IndexedBook(3L, "채식주의자", "한강", "창비", ""));
+        assertEquals(List.of(), index.search("ㅅㄴ", 10));
+        assertEquals(List.of(3L), index.search("ㅊㅅㅈ", 10));
+
+        index.remove(2L);
+        assertEquals(List.of(1L), index.search("ㅎㄹㅍㅌ", 10));
+    }
+}
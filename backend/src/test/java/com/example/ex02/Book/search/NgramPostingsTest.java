@@ -0,0 +1,49 @@
+package com.example.ex02.Book.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NgramPostingsTest {
+
+    @Test
+    void addedDocumentsAreCollectedNewestFirst() {
+        NgramPostings postings = new NgramPostings(2, 3);
+        postings.add(1L, "자바의 정석");
+        postings.add(2L, "모던 자바 인 액션");
+        postings.add(3L, "파이썬 입문");
+
+        assertEquals(List.of(2L, 1L), postings.collect("자바", Long.MAX_VALUE, 10, id -> true));
+        assertEquals(List.of(1L), postings.collect("자바", 2L, 10, id -> true));
+        assertEquals(List.of(2L), postings.collect("자바", Long.MAX_VALUE, 1, id -> true));
+        assertEquals(2, postings.documentFrequency("자바"));
+    }
+
+    @Test
+    void removedDocumentsDisappearAndEmptyGramsAreDropped() {
+        NgramPostings postings = new NgramPostings(2, 3);
+        postings.add(1L, "자바의 정석");
+        assertTrue(postings.gramCount() > 0);
+
+        postings.remove(1L, "자바의 정석");
+
+        assertEquals(List.of(), postings.collect("자바", Long.MAX_VALUE, 10, id -> true));
+        assertEquals(0, postings.gramCount());
+    }
+
+    @Test
+    void updateReplacesOldGramsWithNewOnes() {
+        NgramPostings postings = new NgramPostings(2, 3);
+        postings.add(1L, "자바의 정석");
+
+        // 수정은 이전 값 제거 후 새 값 추가
+        postings.remove(1L, "자바의 정석");
+        postings.add(1L, "코틀린 인 액션");
+
+        assertEquals(List.of(), postings.collect("자바", Long.MAX_VALUE, 10, id -> true));
+        assertEquals(List.of(1L), postings.collect("코틀린", Long.MAX_VALUE, 10, id -> true));
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.ex02.Book.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class SymSpellDictionaryTest {
+
+    private final SymSpellDictionary dictionary = new SymSpellDictionary(
+            Map.of("harry potter", 5L, "hobbit", 3L, "habit", 1L, "데미안", 2L), 2, 7);
+
+    @Test
+    void exactWordIsReturnedAsIs() {
+        assertEquals("hobbit", dictionary.lookup("hobbit"));
+    }
+
+    @Test
+    void closestWordWithinEditDistanceIsSuggested() {
+        assertEquals("harry potter", dictionary.lookup("hary poter"));
+        // 인접 전치는 편집 1회
+        assertEquals("harry potter", dictionary.lookup("hrary potter"));
+        assertEquals("데미안", dictionary.lookup("데미인"));
+    }
+
+    @Test
+    void equalDistanceTieGoesToMoreFrequentWord() {
+        // hobit -> hobbit(삽입 1), habit(치환 1)
+        assertEquals("hobbit", dictionary.lookup("hobit"));
+    }
+
+    @Test
+    void wordsBeyondTheAllowedDistanceAreNotSuggested() {
+        // 3글자 이하는 편집 1회까지만
+        assertNull(dictionary.lookup("데밈"));
+        assertNull(dictionary.lookup("zzzzzz"));
+        assertNull(SymSpellDictionary.EMPTY.lookup("hobbit"));
+    }
+}
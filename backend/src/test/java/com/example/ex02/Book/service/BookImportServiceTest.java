@@ -0,0 +1,84 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookImportJobDTO;
+import com.example.ex02.Book.search.BookCatalogIndexer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookImportServiceTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private BookImportService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        service = new BookImportService(jdbcTemplate, mock(PlatformTransactionManager.class),
+                mock(BookCatalogIndexer.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void insertedCountComesFromRowCountNotBatchResults() throws Exception {
+        String csv = String.join("\n",
+                "isbn,title,author",
+                "9788936434120,소년이 온다,한강",
+                "9788954651134,채식주의자,한강",
+                "9788968481901,파이썬,김철수",
+                "9788936434120,소년이 온다,한강",
+                "not-an-isbn,잘못된 행,");
+        // 한 권은 이미 있음, 두 권을 INSERT IGNORE 했지만 한 권은 동시 등록으로 무시됨
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+                .thenReturn(List.of("9788936434120"));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenReturn(new int[] {-2, -2});
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class)))
+                .thenReturn(2);
+
+        BookImportJobDTO job = awaitFinished(service.startImport(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), "csv").getJobId());
+
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(5, job.getRowsRead());
+        assertEquals(1, job.getInserted());
+        // 파일 내 중복 1 + 기존 1 + 동시 등록으로 무시 1
+        assertEquals(3, job.getDuplicates());
+        assertEquals(1, job.getInvalid());
+    }
+
+    @Test
+    void unknownJobIsEmpty() {
+        assertTrue(service.findJob("missing").isEmpty());
+    }
+
+    private BookImportJobDTO awaitFinished(String jobId) throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            BookImportJobDTO job = service.findJob(jobId).orElseThrow();
+            if (job.getStatus().equals("COMPLETED") || job.getStatus().equals("FAILED")) {
+                return job;
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("Import did not finish");
+    }
+}
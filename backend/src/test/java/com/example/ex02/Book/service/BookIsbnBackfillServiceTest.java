@@ -0,0 +1,48 @@
+package com.example.ex02.Book.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookIsbnBackfillServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final BookIsbnBackfillService service = new BookIsbnBackfillService(jdbcTemplate, true);
+
+    @Test
+    void completedBackfillDoesNotRescanOnLaterStartups() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(1);
+
+        service.backfill();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), any(Object[].class));
+        verify(jdbcTemplate, never()).update(startsWith("INSERT IGNORE INTO book_migration"), any(Object[].class));
+    }
+
+    @Test
+    void firstRunIsRecordedEvenWhenRowsStayUnresolved() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(Object[].class))).thenReturn(0);
+        // 유효한 ISBN-10 한 건과 유효하지 않은 ISBN 한 건
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class))).thenReturn(List.of(
+                Map.of("book_id", 1L, "isbn", "0306406152"),
+                Map.of("book_id", 2L, "isbn", "not-an-isbn")));
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenReturn(new int[] {1});
+
+        service.backfill();
+
+        verify(jdbcTemplate).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate).update(startsWith("INSERT IGNORE INTO book_migration"), any(Object[].class));
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPricesResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BookPriceCacheTest {
+
+    private final BookPriceCache cache = new BookPriceCache(new SimpleMeterRegistry(), 100, 30, 720);
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    void responseWithProviderErrorsIsNotCachedAsComplete() throws InterruptedException {
+        BookPricesResponse failed = response(Map.of("ALADIN", "ERROR", "KYOBO", "ERROR", "YES24", "TIMEOUT"));
+        cache.put("isbn:9788936434120", failed);
+
+        // 일단 기존 값을 돌려주되 soft TTL 과 관계없이 바로 다시 조회
+        CountDownLatch reloaded = new CountDownLatch(1);
+        BookPricesResponse served = cache.get("isbn:9788936434120", () -> {
+            reloaded.countDown();
+            return response(Map.of("ALADIN", "OK", "KYOBO", "NOT_FOUND", "YES24", "OK"));
+        });
+        assertSame(failed, served);
+        assertTrue(reloaded.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void responseWithOnlyOkAndNotFoundIsServedFromCache() {
+        BookPricesResponse complete = response(Map.of("ALADIN", "OK", "KYOBO", "NOT_FOUND", "YES24", "OK"));
+        cache.put("isbn:9788936434120", complete);
+
+        assertSame(complete, cache.get("isbn:9788936434120", () -> {
+            throw new AssertionError("complete entry must not be reloaded");
+        }));
+    }
+
+    private static BookPricesResponse response(Map<String, String> status) {
+        return new BookPricesResponse(List.of(), status);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPricesResponse;
+import com.example.ex02.Book.repository.BookPriceHistoryRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookPriceHistoryServiceTest {
+
+    private static final List<String> PROVIDERS = List.of("ALADIN", "KYOBO", "YES24");
+
+    private final BookPriceHistoryRepository repository = mock(BookPriceHistoryRepository.class);
+    private final BookPriceHistoryService service =
+            new BookPriceHistoryService(repository, mock(JdbcTemplate.class), 24);
+
+    @Test
+    void snapshotWithEveryProviderIsServed() {
+        LocalDateTime fetchedAt = LocalDateTime.now().minusHours(1);
+        when(repository.findLatestSnapshot(1L)).thenReturn(List.of(
+                new Object[] {"ALADIN", 13500, "https://aladin", "OK", fetchedAt},
+                new Object[] {"KYOBO", null, null, "NOT_FOUND", fetchedAt},
+                new Object[] {"YES24", 13500, "https://yes24", "OK", fetchedAt}));
+
+        BookPricesResponse response = service.findFreshSnapshot(1L, PROVIDERS);
+
+        assertEquals(2, response.getPrices().size());
+        assertEquals(3, response.getProviderStatus().size());
+    }
+
+    @Test
+    void snapshotMissingAProviderIsNotServed() {
+        LocalDateTime fetchedAt = LocalDateTime.now().minusHours(1);
+        // 배치에서 서킷이 열려 KYOBO 행 없이 저장된 스냅샷
+        when(repository.findLatestSnapshot(1L)).thenReturn(List.of(
+                new Object[] {"ALADIN", 13500, "https://aladin", "OK", fetchedAt},
+                new Object[] {"YES24", 13500, "https://yes24", "OK", fetchedAt}));
+
+        assertNull(service.findFreshSnapshot(1L, PROVIDERS));
+    }
+
+    @Test
+    void snapshotWithAnErrorRowIsNotServed() {
+        LocalDateTime fetchedAt = LocalDateTime.now().minusHours(1);
+        when(repository.findLatestSnapshot(1L)).thenReturn(List.<Object[]>of(
+                new Object[] {"ALADIN", 13500, "https://aladin", "OK", fetchedAt},
+                new Object[] {"KYOBO", null, null, "ERROR", fetchedAt},
+                new Object[] {"YES24", 13500, "https://yes24", "OK", fetchedAt}));
+
+        assertNull(service.findFreshSnapshot(1L, PROVIDERS));
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPriceDTO;
+import com.example.ex02.Book.entity.BookEntity;
+import com.example.ex02.Book.provider.BookPriceProvider;
+import com.example.ex02.Book.repository.BookPriceHistoryRepository;
+import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.common.CallNotPermittedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookPriceRefreshJobTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookPriceHistoryRepository historyRepository = mock(BookPriceHistoryRepository.class);
+    private final BookPriceHistoryService historyService = mock(BookPriceHistoryService.class);
+    private final AtomicInteger openCircuitCalls = new AtomicInteger();
+    private final BookPriceRefreshJob job = new BookPriceRefreshJob(
+            List.of(new FixedProvider(), new OpenCircuitProvider()),
+            bookRepository, historyRepository, historyService,
+            true, 900000, 20, 200, 0);
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void providerWithOpenCircuitLeavesErrorRowsForTheRestOfTheSlice() {
+        when(historyRepository.countBookmarkedBooks()).thenReturn(3L);
+        when(historyRepository.findBookmarkedBookIdsNotPricedSince(any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of(1L, 2L, 3L));
+        when(bookRepository.findAllById(anyList())).thenReturn(List.of(book(1L), book(2L), book(3L)));
+
+        job.refreshSlice();
+
+        ArgumentCaptor<List<BookPriceHistoryService.Snapshot>> saved = ArgumentCaptor.forClass(List.class);
+        verify(historyService).saveAll(saved.capture(), any(LocalDateTime.class));
+        // 도서 3권 x 판매처 2곳 - 서킷이 열린 판매처도 도서마다 행이 있어야 스냅샷이 불완전으로 판정됨
+        assertEquals(6, saved.getValue().size());
+        // 첫 거절 이후로는 호출하지 않음
+        assertEquals(1, openCircuitCalls.get());
+    }
+
+    private static BookEntity book(long id) {
+        BookEntity book = new BookEntity();
+        book.setBookId(id);
+        book.setTitle("도서 " + id);
+        book.setIsbn("");
+        return book;
+    }
+
+    private static final class FixedProvider implements BookPriceProvider {
+        @Override
+        public String getName() {
+            return "FIXED";
+        }
+
+        @Override
+        public BookPriceDTO getPrice(String isbn, String title) {
+            return new BookPriceDTO("FIXED", 15000, "https://example.com/book");
+        }
+    }
+
+    private final class OpenCircuitProvider implements BookPriceProvider {
+        @Override
+        public String getName() {
+            return "OPEN";
+        }
+
+        @Override
+        public BookPriceDTO getPrice(String isbn, String title) {
+            openCircuitCalls.incrementAndGet();
+            throw new CallNotPermittedException("open circuit is OPEN");
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookPriceDTO;
+import com.example.ex02.Book.dto.BookPricesResponse;
+import com.example.ex02.Book.entity.BookEntity;
+import com.example.ex02.Book.provider.BookPriceProvider;
+import com.example.ex02.Book.provider.PriceLookupException;
+import com.example.ex02.Book.repository.BookRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookPriceServiceTest {
+
+    private static final long DEADLINE_MS = 200;
+
+    private final CountDownLatch interrupted = new CountDownLatch(1);
+    private final AtomicInteger fixedLookups = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private BookPriceService service;
+
+    @BeforeEach
+    void setUp() {
+        BookEntity book = new BookEntity();
+        book.setBookId(1L);
+        book.setTitle("소년이 온다");
+        book.setIsbn("9788936434120");
+
+        BookRepository bookRepository = mock(BookRepository.class);
+        when(bookRepository.findById(1L)).thenReturn(Optional.of(book));
+        BookPriceHistoryService history = mock(BookPriceHistoryService.class);
+
+        service = new BookPriceService(
+                List.of(new FixedProvider(), new FailingProvider(), new BlockingProvider()),
+                bookRepository,
+                new BookPriceCache(registry, 100, 30, 720),
+                history,
+                registry,
+                DEADLINE_MS,
+                4
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void timedOutProviderIsInterruptedAndReportedAsTimeout() throws InterruptedException {
+        BookPricesResponse response = service.getPrices(1L, null);
+
+        assertEquals("OK", response.getProviderStatus().get("FIXED"));
+        assertEquals("ERROR", response.getProviderStatus().get("FAILING"));
+        assertEquals("TIMEOUT", response.getProviderStatus().get("BLOCKING"));
+        assertEquals(1, response.getPrices().size());
+        // 마감 후 작업 스레드가 계속 붙잡혀 있으면 안 됨
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void streamingLookupPastDeadlineIsInterrupted() throws InterruptedException {
+        service.streamPrices(1L, null);
+
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void concurrentViewersShareOneLookup() {
+        service.streamPrices(1L, null);
+        service.streamPrices(1L, null);
+        // 진행 중인 SSE 조회에 합류해 마감 시간까지 기다림
+        BookPricesResponse response = service.getPrices(1L, null);
+
+        assertEquals("OK", response.getProviderStatus().get("FIXED"));
+        assertEquals(1, fixedLookups.get());
+    }
+
+    @Test
+    void staleCachedPricesAreStreamedWhileRefreshingInBackground() throws InterruptedException {
+        // FAILING 이 ERROR 라 불완전한 응답으로 캐시됨
+        service.getPrices(1L, null);
+        assertEquals(1, fixedLookups.get());
+
+        service.streamPrices(1L, null);
+
+        assertEquals(1.0, registry.counter("book.price.cache.requests", "result", "stale").count());
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (fixedLookups.get() < 2) {
+            assertTrue(System.nanoTime() < deadline, "stale entry was not refreshed");
+            Thread.sleep(5);
+        }
+    }
+
+    private final class FixedProvider implements BookPriceProvider {
+        @Override
+        public String getName() {
+            return "FIXED";
+        }
+
+        @Override
+        public BookPriceDTO getPrice(String isbn, String title) {
+            fixedLookups.incrementAndGet();
+            return new BookPriceDTO("FIXED", 15000, "https://example.com/book");
+        }
+    }
+
+    // 네트워크 오류 흉내 ('결과 없음'이 아닌 ERROR 로 집계되어야 함)
+    private static final class FailingProvider implements BookPriceProvider {
+        @Override
+        public String getName() {
+            return "FAILING";
+        }
+
+        @Override
+        public BookPriceDTO getPrice(String isbn, String title) {
+            throw new PriceLookupException("FAILING lookup failed", new IOException("connection reset"));
+        }
+    }
+
+    // 응답 없는 판매처 흉내 (interrupt 되어야만 빠져나옴)
+    private final class BlockingProvider implements BookPriceProvider {
+        @Override
+        public String getName() {
+            return "BLOCKING";
+        }
+
+        @Override
+        public BookPriceDTO getPrice(String isbn, String title) {
+            try {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }
+    }
+}
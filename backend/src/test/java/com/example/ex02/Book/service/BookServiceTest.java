@@ -0,0 +1,48 @@
+package com.example.ex02.Book.service;
+
+import com.example.ex02.Book.dto.BookListItemDTO;
+import com.example.ex02.Book.dto.BookPageDTO;
+import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.search.BookCatalogIndexer;
+import com.example.ex02.Book.search.BookSearchIndex;
+import com.example.ex02.Book.search.BookSpellSuggester;
+import com.example.ex02.Book.search.BookSuggestIndex;
+import com.example.ex02.Book.search.HangulSearchIndex;
+import com.example.ex02.Book.util.BookCursor;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BookServiceTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookSearchIndex bookSearchIndex = mock(BookSearchIndex.class);
+    private final BookService service = new BookService(bookRepository, mock(BookUpsertService.class),
+            bookSearchIndex, mock(HangulSearchIndex.class), mock(BookSuggestIndex.class),
+            mock(BookSpellSuggester.class), mock(BookCatalogIndexer.class), mock(AiSummaryStore.class));
+
+    @Test
+    void singleCharacterPageQueryIsSearchedLikeAnyOther() {
+        when(bookSearchIndex.isReady()).thenReturn(true);
+        when(bookSearchIndex.search("한", Long.MAX_VALUE, 2)).thenReturn(List.of(3L, 1L));
+        when(bookRepository.findListItemsByIdIn(anyCollection())).thenReturn(List.of(
+                item(1L, "소년이 온다"), item(3L, "채식주의자")));
+
+        BookPageDTO page = service.getBookPage("한", null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(3L, page.getItems().get(0).getBookId());
+        assertEquals(3L, BookCursor.decode(page.getNextCursor()));
+        assertNull(page.getSuggestion());
+    }
+
+    private static BookListItemDTO item(long id, String title) {
+        return new BookListItemDTO(id, null, title, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.ex02.Book.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class BookCursorTest {
+
+    @Test
+    void encodedCursorDecodesToTheSameBookId() {
+        for (long bookId : new long[]{1L, 12_345L, Long.MAX_VALUE}) {
+            assertEquals(bookId, BookCursor.decode(BookCursor.encode(bookId)));
+        }
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertNull(BookCursor.decode(null));
+        assertNull(BookCursor.decode(""));
+        assertNull(BookCursor.decode("  "));
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> BookCursor.decode("12345"));
+        assertThrows(IllegalArgumentException.class, () -> BookCursor.decode("!!!"));
+        // 접두어는 맞지만 숫자가 아닌 경우
+        assertThrows(IllegalArgumentException.class, () -> BookCursor.decode("YjphYmM"));
+    }
+}
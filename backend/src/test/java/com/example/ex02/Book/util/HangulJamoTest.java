@@ -0,0 +1,29 @@
+package com.example.ex02.Book.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HangulJamoTest {
+
+    @Test
+    void onlyLeadingConsonantsMakeAChosungQuery() {
+        assertTrue(HangulJamo.isChosungQuery("ㅎㄹㅍㅌ"));
+        assertTrue(HangulJamo.isChosungQuery("ㄲ ㅉ"));
+        // 겹받침은 초성이 될 수 없으므로 자모 검색으로
+        assertFalse(HangulJamo.isChosungQuery("ㄳ"));
+        assertFalse(HangulJamo.isChosungQuery("ㅂㅄ"));
+        assertFalse(HangulJamo.isChosungQuery("ㄺㅀ"));
+        assertFalse(HangulJamo.isChosungQuery("해리"));
+        assertFalse(HangulJamo.isChosungQuery(" "));
+    }
+
+    @Test
+    void compoundJamoIsSplitTheSameWayAsSyllables() {
+        assertEquals("ㄷㅏㄹㄱ", HangulJamo.toJamo("닭"));
+        assertEquals("ㄹㄱ", HangulJamo.toJamo("ㄺ"));
+        assertEquals("ㅎㄹㅍㅌ", HangulJamo.toChosung("해리 포터"));
+    }
+}
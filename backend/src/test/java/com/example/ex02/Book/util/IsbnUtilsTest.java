@@ -0,0 +1,36 @@
+package com.example.ex02.Book.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IsbnUtilsTest {
+
+    @Test
+    void isbn10IsConvertedWithRecomputedCheckDigit() {
+        assertEquals("9780306406157", IsbnUtils.toIsbn13("0306406152"));
+        assertEquals("9780306406157", IsbnUtils.toIsbn13("0-306-40615-2"));
+        // X 체크디지트
+        assertEquals("9780804429573", IsbnUtils.toIsbn13("080442957x"));
+    }
+
+    @Test
+    void validIsbn13IsNormalized() {
+        assertEquals("9788936434120", IsbnUtils.toIsbn13("978-89-364-3412-0"));
+        assertEquals("9791190090018", IsbnUtils.toIsbn13(" 979 1190090018 "));
+    }
+
+    @Test
+    void wrongChecksumOrFormatIsRejected() {
+        assertNull(IsbnUtils.toIsbn13("0306406153"));
+        assertNull(IsbnUtils.toIsbn13("9780306406158"));
+        assertNull(IsbnUtils.toIsbn13("9770306406157"));
+        assertNull(IsbnUtils.toIsbn13("12345"));
+        assertNull(IsbnUtils.toIsbn13(null));
+        assertFalse(IsbnUtils.isIsbn("abcdefghij"));
+        assertTrue(IsbnUtils.isIsbn("0306406152"));
+    }
+}
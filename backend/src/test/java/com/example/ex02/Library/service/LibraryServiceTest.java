@@ -0,0 +1,73 @@
+package com.example.ex02.Library.service;
+
+import com.example.ex02.Book.repository.BookRepository;
+import com.example.ex02.Book.search.BookSearchIndex;
+import com.example.ex02.Book.search.BookSpellSuggester;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.json.JSONObject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LibraryServiceTest {
+
+    private final BookRepository bookRepository = mock(BookRepository.class);
+    private final BookSearchIndex bookSearchIndex = mock(BookSearchIndex.class);
+    private final EntityManager entityManager = mock(EntityManager.class);
+    private final Query query = mock(Query.class);
+    private final LibraryService service =
+            new LibraryService(bookRepository, bookSearchIndex, mock(BookSpellSuggester.class));
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "entityManager", entityManager);
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyInt(), any())).thenReturn(query);
+    }
+
+    @Test
+    void dbFallbackFiltersEveryTokenBeforePaging() throws Exception {
+        // 인덱스 구성 전: 토큰 5개가 모두 SQL 조건으로 들어가야 LIMIT 결과가 곧 페이지가 됨
+        when(bookSearchIndex.isReady()).thenReturn(false);
+        when(query.getResultList()).thenReturn(List.of(5L, 4L, 3L));
+        when(bookRepository.findLibraryDocsByIdIn(anyCollection())).thenReturn(List.of(
+                doc(5L, "가 나 다 라 마"), doc(4L, "마 라 다 나 가")));
+
+        JSONObject response = search("가 나 다 라 마", 1, 2);
+
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(entityManager).createNativeQuery(sql.capture());
+        assertEquals(5, sql.getValue().split(" AND ").length);
+        verify(query).setParameter(21, 3);
+        verify(query).setParameter(22, 0);
+
+        assertTrue(response.getBoolean("hasMore"));
+        assertEquals(2, response.getJSONArray("docs").length());
+    }
+
+    private JSONObject search(String keyword, int page, int size) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.searchBooks(keyword, page, size).writeTo(out);
+        return new JSONObject(out.toString(StandardCharsets.UTF_8)).getJSONObject("response");
+    }
+
+    private static Object[] doc(long id, String title) {
+        return new Object[] {id, title, "", "", "", null, ""};
+    }
+}
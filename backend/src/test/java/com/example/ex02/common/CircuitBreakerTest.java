@@ -0,0 +1,159 @@
+package com.example.ex02.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void opensAfterConsecutiveFailures() throws Exception {
+        CircuitBreaker breaker = breaker(3, 60_000, 8);
+
+        failOnce(breaker);
+        failOnce(breaker);
+        // 중간에 성공하면 연속 실패 수는 초기화
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        failOnce(breaker);
+        failOnce(breaker);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        failOnce(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void failsFastWithoutCallingWhileOpen() throws Exception {
+        CircuitBreaker breaker = breaker(1, 60_000, 8);
+        failOnce(breaker);
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThrows(CallNotPermittedException.class, () -> breaker.execute(calls::incrementAndGet));
+        assertEquals(0, calls.get());
+        assertEquals(1.0, registry.counter("circuit.breaker.calls",
+                "name", "test", "kind", "not_permitted").count());
+    }
+
+    @Test
+    void allowsOneHalfOpenProbeAndClosesOnSuccess() throws Exception {
+        // open 시간 0 - 열리자마자 다음 호출이 HALF_OPEN 시험 호출
+        CircuitBreaker breaker = breaker(1, 0, 8);
+        failOnce(breaker);
+
+        CountDownLatch probeStarted = new CountDownLatch(1);
+        CountDownLatch releaseProbe = new CountDownLatch(1);
+        Future<String> probe = executor.submit(() -> breaker.execute(() -> {
+            probeStarted.countDown();
+            releaseProbe.await();
+            return "probe";
+        }));
+        assertTrue(probeStarted.await(2, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+        // 시험 호출 진행 중에는 다른 호출을 막음
+        assertThrows(CallNotPermittedException.class, () -> breaker.execute(() -> "second"));
+
+        releaseProbe.countDown();
+        assertEquals("probe", probe.get(2, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void failedProbeReopens() throws Exception {
+        CircuitBreaker breaker = breaker(1, 0, 8);
+        failOnce(breaker);
+
+        failOnce(breaker);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void errorDuringProbeReopensInsteadOfBlockingForever() throws Exception {
+        CircuitBreaker breaker = breaker(1, 0, 8);
+        failOnce(breaker);
+
+        assertThrows(AssertionError.class, () -> breaker.execute(() -> {
+            throw new AssertionError("probe blew up");
+        }));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // 다음 시험 호출이 다시 허용되어야 함
+        assertEquals("ok", breaker.execute(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverTheLimit() throws Exception {
+        CircuitBreaker breaker = breaker(5, 60_000, 1);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> running = executor.submit(() -> breaker.execute(() -> {
+            started.countDown();
+            release.await();
+            return "first";
+        }));
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        assertThrows(CallNotPermittedException.class, () -> breaker.execute(() -> "second"));
+        // 동시 호출 초과는 장애가 아니므로 서킷은 닫힌 상태 유지
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        release.countDown();
+        assertEquals("first", running.get(2, TimeUnit.SECONDS));
+        assertEquals("third", breaker.execute(() -> "third"));
+    }
+
+    @Test
+    void registrySharesBreakersAndAppliesOverrides() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("resilience.breaker.default.failure-threshold", "4")
+                .withProperty("resilience.breaker.kyobo.failure-threshold", "1");
+        CircuitBreakerRegistry breakers = new CircuitBreakerRegistry(registry, environment);
+
+        assertSame(breakers.get("kyobo"), breakers.get("kyobo"));
+
+        failOnce(breakers.get("kyobo"));
+        assertEquals(CircuitBreaker.State.OPEN, breakers.get("kyobo").getState());
+
+        CircuitBreaker aladin = breakers.get("aladin");
+        for (int i = 0; i < 3; i++) {
+            failOnce(aladin);
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, aladin.getState());
+        failOnce(aladin);
+        assertEquals(CircuitBreaker.State.OPEN, aladin.getState());
+    }
+
+    private CircuitBreaker breaker(int failureThreshold, long openMillis, int maxConcurrent) {
+        return new CircuitBreaker("test", failureThreshold, 10_000, openMillis, maxConcurrent, registry);
+    }
+
+    private static void failOnce(CircuitBreaker breaker) {
+        assertThrows(IOException.class, () -> breaker.execute(() -> {
+            throw new IOException("down");
+        }));
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.ex02.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("test", registry);
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallsForSameKeyShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("isbn", () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "price";
+        }));
+        assertTrue(loading.await(2, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> flight.execute("isbn", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        awaitCoalesced(1);
+
+        release.countDown();
+        assertEquals("price", leader.get(2, TimeUnit.SECONDS));
+        assertEquals("price", follower.get(2, TimeUnit.SECONDS));
+        assertEquals(1, loads.get());
+
+        // 끝난 뒤의 호출은 새로 실행
+        assertEquals("fresh", flight.execute("isbn", () -> "fresh"));
+    }
+
+    @Test
+    void failurePropagatesToWaitingCallers() throws Exception {
+        IllegalStateException failure = new IllegalStateException("scrape failed");
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> flight.execute("isbn", () -> {
+            loading.countDown();
+            await(release);
+            throw failure;
+        }));
+        assertTrue(loading.await(2, TimeUnit.SECONDS));
+        Future<String> follower = executor.submit(() -> flight.execute("isbn", () -> "unused"));
+        awaitCoalesced(1);
+
+        release.countDown();
+        ExecutionException leaderError = assertThrows(ExecutionException.class, () -> leader.get(2, TimeUnit.SECONDS));
+        ExecutionException followerError = assertThrows(ExecutionException.class, () -> follower.get(2, TimeUnit.SECONDS));
+        assertSame(failure, leaderError.getCause());
+        assertSame(failure, followerError.getCause());
+    }
+
+    @Test
+    void syncCallerJoinsInFlightAsyncLoad() throws Exception {
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CompletableFuture<String> shared = flight.executeAsync("isbn", () -> pending);
+        assertSame(shared, flight.executeAsync("isbn", () -> CompletableFuture.completedFuture("other")));
+
+        Future<String> follower = executor.submit(() -> flight.execute("isbn", () -> "unused"));
+        awaitCoalesced(2);
+
+        pending.complete("price");
+        assertEquals("price", shared.get(2, TimeUnit.SECONDS));
+        assertEquals("price", follower.get(2, TimeUnit.SECONDS));
+
+        // 끝난 뒤의 호출은 새로 실행
+        assertEquals("fresh", flight.executeAsync("isbn", () -> CompletableFuture.completedFuture("fresh")).join());
+    }
+
+    @Test
+    void differentKeysLoadIndependently() {
+        assertEquals("a", flight.execute("a", () -> "a"));
+        assertEquals("b", flight.execute("b", () -> "b"));
+        assertEquals(2.0, registry.counter("singleflight.calls", "name", "test", "result", "executed").count());
+    }
+
+    private void awaitCoalesced(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (registry.counter("singleflight.calls", "name", "test", "result", "coalesced").count() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Second caller did not join the in-flight load");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,7 +12,8 @@ export const fetchBooks = async (query = '') => {
     : `${BASE_URL}/api/books`
   const res = await fetch(url)
   if (!res.ok) throw new Error('Failed to fetch books')
-  return res.json()
+  const data = await res.json()
+  return data.books || []
 }
 
 // 도서 생성
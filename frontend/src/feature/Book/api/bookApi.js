@@ -1,7 +1,7 @@
 ﻿const BASE_URL = ''
 
-// 도서 목록 조회(검색어 선택)
-export const fetchBooks = (query = '') => {
+// 도서 검색 응답 조회 (응답: { books, suggestion } - 결과가 없으면 suggestion 에 교정 제안어)
+export const fetchBookSearch = (query = '') => {
   const trimmed = query.trim()
   const url = trimmed
     ? `${BASE_URL}/api/books?query=${encodeURIComponent(trimmed)}`
@@ -9,13 +9,18 @@ export const fetchBooks = (query = '') => {
   return fetch(url).then(res => res.json())
 }
 
+// 도서 목록 조회(검색어 선택)
+export const fetchBooks = (query = '') => {
+  return fetchBookSearch(query).then(data => data.books || [])
+}
+
 // 도서 검색 (검색어 필수, 최소 2글자)
 export const searchBooks = (query) => {
   const trimmed = (query || '').trim()
   if (trimmed.length < 2) {
     return Promise.resolve([])
   }
-  return fetch(`${BASE_URL}/api/books?query=${encodeURIComponent(trimmed)}`).then(res => res.json())
+  return fetchBooks(trimmed)
 }
 
 // 도서 상세 조회
@@ -23,7 +28,30 @@ export const fetchBookById = (id) => {
   return fetch(`${BASE_URL}/api/books/${id}`).then(res => res.json())
 }
 
-// 판매처 가격 조회
+// 판매처 가격 스트리밍 조회 (SSE: 판매처 응답마다 onPrice, 모두 끝나면 onComplete / 반환값으로 연결 종료)
+export const streamBookShops = (bookId, title, { onPrice, onComplete, onError }) => {
+  const query = title ? `?title=${encodeURIComponent(title)}` : ''
+  const source = new EventSource(`${BASE_URL}/api/books/${bookId}/shops/stream${query}`)
+  let done = false
+
+  source.addEventListener('price', (event) => {
+    onPrice?.(JSON.parse(event.data))
+  })
+  source.addEventListener('complete', (event) => {
+    done = true
+    source.close()
+    onComplete?.(JSON.parse(event.data))
+  })
+  source.onerror = () => {
+    // 서버가 complete 이후 연결을 닫는 경우는 정상 종료
+    if (done) return
+    source.close()
+    onError?.()
+  }
+  return () => source.close()
+}
+
+// 판매처 가격 조회 (응답: { prices, providerStatus } 중 가격 목록만 반환)
 export const fetchBookShops = (bookId, title) => {
   const query = title ? `?title=${encodeURIComponent(title)}` : ''
   return fetch(`${BASE_URL}/api/books/${bookId}/shops${query}`).then(res => {
@@ -31,7 +59,7 @@ export const fetchBookShops = (bookId, title) => {
       throw new Error('Failed to fetch shop data')
     }
     return res.json()
-  })
+  }).then(data => data.prices || [])
 }
 
 // AI 요약 조회
@@ -44,6 +72,16 @@ export const fetchBookSummary = (bookId) => {
   })
 }
 
+// 베스트셀러 통합 목록 (sources: 출처별 TOP10, consensus: 서점 합산 TOP10)
+export const fetchAllBestsellers = () => {
+  return fetch(`${BASE_URL}/api/books/bestsellers/all`).then(res => {
+    if (!res.ok) {
+      throw new Error('Failed to fetch bestsellers')
+    }
+    return res.json()
+  })
+}
+
 // 알라딘 베스트셀러 TOP10
 export const fetchAladinBestsellers = () => {
   return fetch(`${BASE_URL}/api/books/bestsellers/aladin`).then(res => {
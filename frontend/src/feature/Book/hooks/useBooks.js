@@ -1,18 +1,20 @@
 import { useState, useEffect } from 'react'
-import { fetchBooks } from '../api/bookApi'
+import { fetchBookSearch } from '../api/bookApi'
 
-// 검색어에 따른 도서 목록 로딩 훅
+// 검색어에 따른 도서 목록 로딩 훅 (결과가 없으면 교정 제안어도 함께)
 function useBooks(query = '') {
   const [books, setBooks] = useState([])
+  const [suggestion, setSuggestion] = useState(null)
   const [loading, setLoading] = useState(true)
   const [error, setError] = useState(null)
 
   // 검색어 변경 시 목록 재조회
   useEffect(() => {
     setLoading(true)
-    fetchBooks(query)
+    fetchBookSearch(query)
       .then(data => {
-        setBooks(data)
+        setBooks(data.books || [])
+        setSuggestion(data.suggestion || null)
         setLoading(false)
       })
       .catch(err => {
@@ -22,7 +24,7 @@ function useBooks(query = '') {
       })
   }, [query])
 
-  return { books, loading, error }
+  return { books, suggestion, loading, error }
 }
 
 export default useBooks
@@ -2,10 +2,7 @@
 import { useNavigate } from 'react-router-dom'
 import cloud from 'd3-cloud'
 import {
-  fetchAladinBestsellers,
-  fetchKyoboBestsellers,
-  fetchYes24Bestsellers,
-  fetchSeoulLoanTop10
+  fetchAllBestsellers
 } from '../api/bookApi'
 import { fetchKeywordTrends, fetchPurchaseTrends } from '../api/analyticsApi'
 import { fetchCommunities } from '@/feature/Community/api/communityApi'
@@ -208,27 +205,6 @@ function MainPage() {
     page * booksPerPage + booksPerPage
   )
 
-  // 서울 대출 랭킹 데이터 로드
-  useEffect(() => {
-    let cancelled = false
-
-    fetchSeoulLoanTop10()
-      .then((data) => {
-        if (cancelled) return
-        setLoanRankingBooks(Array.isArray(data) ? data : [])
-      })
-      .catch(() => {
-        if (cancelled) return
-      })
-      .finally(() => {
-        if (cancelled) return
-      })
-
-    return () => {
-      cancelled = true
-    }
-  }, [])
-
   /* ===============================
      서점별 베스트셀러 TOP10
   =============================== */
@@ -253,28 +229,18 @@ function MainPage() {
     bestPage * bestBooksPerPage,
     bestPage * bestBooksPerPage + bestBooksPerPage
   )
-  // 알라딘/교보/YES24 베스트셀러 병렬 로드
+  // 알라딘/교보/YES24 베스트셀러 + 서울 대출 랭킹을 통합 목록 한 번으로 로드
   useEffect(() => {
     let cancelled = false
     setBestSellerLoading(true)
 
-    Promise.allSettled([
-      fetchAladinBestsellers(),
-      fetchKyoboBestsellers(),
-      fetchYes24Bestsellers()
-    ])
-      .then(results => {
+    fetchAllBestsellers()
+      .then(data => {
         if (cancelled) return
-        const [aladin, kyobo, yes24] = results
-        if (aladin.status === 'fulfilled') {
-          setBestSellerMap(prev => ({ ...prev, ALADIN: Array.isArray(aladin.value) ? aladin.value : [] }))
-        }
-        if (kyobo.status === 'fulfilled') {
-          setBestSellerMap(prev => ({ ...prev, KYOBO: Array.isArray(kyobo.value) ? kyobo.value : [] }))
-        }
-        if (yes24.status === 'fulfilled') {
-          setBestSellerMap(prev => ({ ...prev, YES24: Array.isArray(yes24.value) ? yes24.value : [] }))
-        }
+        const sources = data?.sources || {}
+        const listOf = (key) => (Array.isArray(sources[key]) ? sources[key] : [])
+        setBestSellerMap({ ALADIN: listOf('ALADIN'), KYOBO: listOf('KYOBO'), YES24: listOf('YES24') })
+        setLoanRankingBooks(listOf('SEOUL_LOAN'))
       })
       .catch(() => {
         if (cancelled) return
@@ -1,7 +1,7 @@
 ﻿import { useSearchParams, useNavigate } from 'react-router-dom'
 import { useState, useEffect, useRef } from 'react'
 import useBooks from '../hooks/useBooks'
-import { fetchBookShops as fetchBookShopsApi, fetchBookSummary as fetchBookSummaryApi, fetchBooks } from '../api/bookApi'
+import { streamBookShops, fetchBookSummary as fetchBookSummaryApi, fetchBooks } from '../api/bookApi'
 import { logSearch, logBookAction } from '../api/analyticsApi'
 import Spinner from '../../../shared/components/icons/Spinner'
 import { getUserFromSession } from '@/shared/api/authApi'
@@ -46,7 +46,7 @@ function SearchPage() {
   }
 
   // 판매처 가격 조회(캐시 활용 + 토글)
-  const fetchBookShops = async (book) => {
+  const fetchBookShops = (book) => {
 
     // Toggle close if already open
     if (openBookId === book.bookId) {
@@ -63,23 +63,35 @@ function SearchPage() {
       return
     }
 
-    setLoadingBookId(book.bookId)
-
-    try {
-      const data = await fetchBookShopsApi(book.bookId, book.title)
-
-      setShops(prev => ({
-        ...prev,
-        [book.bookId]: data
-      }))
-
-      setOpenBookId(book.bookId)
-
-    } catch (e) {
-      alert('구매 정보 조회 실패')
-    } finally {
-      setLoadingBookId(null)
-    }
+    const bookId = book.bookId
+    setLoadingBookId(bookId)
+    setOpenBookId(bookId)
+    setShops(prev => ({ ...prev, [bookId]: [] }))
+
+    // 판매처마다 응답 오는 대로 바로 표시
+    let received = 0
+    streamBookShops(bookId, book.title, {
+      onPrice: (price) => {
+        received += 1
+        setShops(prev => ({
+          ...prev,
+          [bookId]: [...(prev[bookId] || []), price]
+        }))
+      },
+      onComplete: () => setLoadingBookId(null),
+      onError: () => {
+        setLoadingBookId(null)
+        if (received === 0) {
+          setShops(prev => {
+            const next = { ...prev }
+            delete next[bookId]
+            return next
+          })
+          setOpenBookId(null)
+          alert('구매 정보 조회 실패')
+        }
+      }
+    })
   }
 
   // LLM 요약 조회(결과 캐시)
@@ -229,7 +241,7 @@ function SearchPage() {
   const [visibleCount, setVisibleCount] = useState(10)
   const lastInitialRef = useRef(initialKeyword)
 
-  const { books, loading } = useBooks(initialKeyword)
+  const { books, suggestion, loading } = useBooks(initialKeyword)
 
   // 검색 결과의 첫 번째 책 제목 (ISBN 검색 시 변환용)
   const firstBookTitle = books.length > 0 ? books[0].title : null
@@ -375,7 +387,21 @@ function SearchPage() {
       </h2>
 
       {books.length === 0 ? (
-        <p className="text-gray-500">검색 결과가 없습니다.</p>
+        <div className="text-gray-500">
+          <p>검색 결과가 없습니다.</p>
+          {suggestion && !loading && (
+            <p className="mt-3">
+              이것을 찾으셨나요?{' '}
+              <button
+                type="button"
+                onClick={() => navigate(`/searchbook?keyword=${encodeURIComponent(suggestion)}`)}
+                className="font-semibold text-sub-bg underline cursor-pointer"
+              >
+                {suggestion}
+              </button>
+            </p>
+          )}
+        </div>
       ) : (
         <div className="space-y-12 mb-32">
 
@@ -517,7 +543,7 @@ function SearchPage() {
                     최저가 비교 (온라인서점)
                   </h4>
 
-                  {loadingBookId === book.bookId ? (
+                  {loadingBookId === book.bookId && bookShops.length === 0 ? (
                     <p className="text-sm text-gray-500">불러오는 중...</p>
                   ) : bookShops.length === 0 ? (
                     <p className="text-sm text-gray-500">
@@ -554,6 +580,9 @@ function SearchPage() {
                           </div>
                         </li>
                       ))}
+                      {loadingBookId === book.bookId && (
+                        <li className="text-xs text-gray-400">다른 판매처 확인 중...</li>
+                      )}
                     </ul>
                   )}
                 </div>